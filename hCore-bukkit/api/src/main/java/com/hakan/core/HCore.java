@@ -26,10 +26,15 @@
 import com.hakan.core.packet.PacketHandler;
 import com.hakan.core.particle.Particle;
 import com.hakan.core.particle.ParticleHandler;
+import com.hakan.core.pathfinder.PathfinderHandler;
 import com.hakan.core.protocol.ProtocolVersion;
+import com.hakan.core.renderer.RendererHandler;
 import com.hakan.core.scheduler.Scheduler;
+import com.hakan.core.scheduler.SchedulerHandler;
 import com.hakan.core.scoreboard.Scoreboard;
 import com.hakan.core.scoreboard.ScoreboardHandler;
+import com.hakan.core.scoreboard.ScoreboardTemplate;
+import com.hakan.core.skin.SkinHandler;
 import com.hakan.core.spam.Spam;
 import com.hakan.core.ui.Gui;
 import com.hakan.core.ui.GuiHandler;
@@ -104,8 +109,11 @@ public static void initialize(@Nonnull JavaPlugin plugin) {
         HCore.setInstance(plugin);
         Metrics.initialize(plugin);
 
+        SchedulerHandler.initialize();
         PacketHandler.initialize();
+        RendererHandler.initialize();
         GuiHandler.initialize();
+        PathfinderHandler.initialize();
         NpcHandler.initialize();
         ItemBuilder.initialize();
         BorderHandler.initialize();
@@ -113,6 +121,7 @@ public static void initialize(@Nonnull JavaPlugin plugin) {
         ParticleHandler.initialize();
         HologramHandler.initialize();
         ScoreboardHandler.initialize();
+        SkinHandler.initialize();
     }
 
 
@@ -544,7 +553,7 @@ public static <T extends Event> ListenerAdapter<T> registerEvent(@Nonnull Class<
      * @param packets Packets.
      */
     public static void sendPacket(@Nonnull Player player, @Nonnull Object... packets) {
-        PacketHandler.findByPlayer(player).ifPresent(packetPlayer -> packetPlayer.send(packets));
+        PacketHandler.send(player, packets);
     }
 
     /**
@@ -934,6 +943,17 @@ public static Scoreboard createScoreboard(@Nonnull UUID uid, @Nonnull String tit
         return ScoreboardHandler.create(uid, title);
     }
 
+    /**
+     * Creates new instance of ScoreboardTemplate.
+     *
+     * @param title Title.
+     * @return new instance of ScoreboardTemplate.
+     */
+    @Nonnull
+    public static ScoreboardTemplate createScoreboardTemplate(@Nonnull String title) {
+        return new ScoreboardTemplate(title);
+    }
+
 
     /*
     NPC
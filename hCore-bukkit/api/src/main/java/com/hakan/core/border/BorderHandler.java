@@ -2,6 +2,7 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.border.builder.BorderBuilder;
+import com.hakan.core.utils.Registry;
 import com.hakan.core.utils.Validate;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
@@ -9,9 +10,7 @@
 import org.bukkit.event.player.PlayerTeleportEvent;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -22,7 +21,7 @@
  */
 public final class BorderHandler {
 
-    private static final Map<Player, Border> borders = new HashMap<>();
+    private static final Registry<Player, Border> borders = new Registry<>();
 
     /**
      * Initializes the world border system.
@@ -49,7 +48,7 @@ public static void initialize() {
      */
     @Nonnull
     public static Map<Player, Border> getContentSafe() {
-        return new HashMap<>(borders);
+        return borders.copy();
     }
 
     /**
@@ -69,7 +68,7 @@ public static Map<Player, Border> getContent() {
      */
     @Nonnull
     public static Collection<Border> getValuesSafe() {
-        return new ArrayList<>(borders.values());
+        return borders.copyValues();
     }
 
     /**
@@ -3,10 +3,14 @@
 import com.hakan.core.HCore;
 import com.hakan.core.hologram.action.HologramAction;
 import com.hakan.core.hologram.line.HologramLine;
+import com.hakan.core.hologram.line.LazyLine;
 import com.hakan.core.hologram.line.empty.EmptyLine;
 import com.hakan.core.hologram.line.item.ItemLine;
 import com.hakan.core.hologram.line.text.TextLine;
+import com.hakan.core.packet.PacketHandler;
+import com.hakan.core.packet.batch.PacketBatch;
 import com.hakan.core.renderer.Renderer;
+import com.hakan.core.utils.EntityIndex;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -15,12 +19,16 @@
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -36,7 +44,11 @@ public final class Hologram {
     private final Renderer renderer;
     private final HologramAction action;
     private final List<HologramLine> lines;
+    private final Map<HologramLine, Location> layout;
+    private final Set<HologramLine> pendingLines;
     private double lineDistance;
+    private boolean relayoutPending;
+    private int editDepth;
 
     /**
      * Creates new instance of this class.
@@ -57,11 +69,15 @@ public Hologram(@Nonnull String id,
         Validate.notNull(playerList, "player list cannot be null!");
 
         this.id = id;
-        this.lines = new LinkedList<>();
+        this.lines = new CopyOnWriteArrayList<>();
+        this.layout = new IdentityHashMap<>();
+        this.pendingLines = ConcurrentHashMap.newKeySet();
         this.lineDistance = lineDistance;
         this.action = new HologramAction(this);
         this.renderer = new Renderer(location, 30, playerList,
-                players -> this.lines.forEach(line -> line.show(players)),
+                players -> this.lines.forEach(line -> {
+                    if (!this.pendingLines.contains(line)) line.show(players);
+                }),
                 players -> this.lines.forEach(line -> line.hide(players)),
                 renderer -> this.lines.forEach(line -> line.hide(renderer.getShownPlayers())));
 
@@ -140,6 +156,26 @@ public Renderer getRenderer() {
         return this.renderer;
     }
 
+    /**
+     * Releases nms entities of lines
+     * if nobody sees hologram for
+     * given time.
+     *
+     * @param releaseTime Release time as millis.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Hologram releaseIdleLines(long releaseTime) {
+        Validate.isTrue(releaseTime <= 0, "release time must be positive!");
+
+        boolean shown = this.renderer.isShown();
+        for (HologramLine line : this.lines) {
+            if (line instanceof LazyLine)
+                ((LazyLine<?>) line).releaseIfIdle(shown, releaseTime);
+        }
+        return this;
+    }
+
     /**
      * Checks everyone can
      * see the hologram.
@@ -210,7 +246,7 @@ public Hologram whenClicked(@Nonnull BiConsumer<Player, HologramLine> consumer)
      */
     @Nonnull
     public List<HologramLine> getLines() {
-        return new LinkedList<>(this.lines);
+        return new ArrayList<>(this.lines);
     }
 
     /**
@@ -258,8 +294,9 @@ public boolean hasLineByEntityID(int entityID) {
      */
     @Nullable
     public <T extends HologramLine> T getLineByEntityID(int entityID) {
-        return (T) this.lines.stream().filter(line -> line.getEntityID() == entityID)
-                .findFirst().orElse(null);
+        return (T) EntityIndex.find(entityID, HologramLine.class)
+                .filter(line -> line.getHologram() == this)
+                .orElse(null);
     }
 
     /**
@@ -272,8 +309,7 @@ public <T extends HologramLine> T getLineByEntityID(int entityID) {
      */
     @Nullable
     public <T extends HologramLine> T getLineByEntityID(int entityID, @Nonnull Class<T> tClass) {
-        return tClass.cast(this.lines.stream().filter(line -> line.getEntityID() == entityID)
-                .findFirst().orElse(null));
+        return tClass.cast(this.getLineByEntityID(entityID));
     }
 
     /**
@@ -430,8 +466,40 @@ public Hologram removeViewerByUID(@Nonnull UUID... uids) {
     @Nonnull
     public Hologram setLocation(@Nonnull Location location) {
         this.renderer.setLocation(Validate.notNull(location, "location cannot be null!"));
-        for (int i = 0; i < this.lines.size(); i++)
-            this.lines.get(i).setLocation(this.calculateLocation(i));
+        this.relayout();
+        return this;
+    }
+
+    /**
+     * Edits hologram in a batch. Line positions
+     * are recalculated once after consumer runs,
+     * only moved lines are teleported and new
+     * lines are shown at their final location.
+     * <p>
+     * Usage:
+     * <pre>
+     * hologram.edit(batch -> {
+     *     batch.setLine(0, "title");
+     *     batch.removeLine(3);
+     * });
+     * </pre>
+     *
+     * @param consumer Consumer to edit hologram.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Hologram edit(@Nonnull Consumer<Hologram> consumer) {
+        Validate.notNull(consumer, "consumer cannot be null!");
+
+        try (PacketBatch ignored = PacketHandler.batch()) {
+            this.editDepth++;
+            try {
+                consumer.accept(this);
+            } finally {
+                if (--this.editDepth == 0 && this.relayoutPending)
+                    this.relayout();
+            }
+        }
         return this;
     }
 
@@ -445,7 +513,9 @@ public Hologram setLocation(@Nonnull Location location) {
     public Hologram removeLine(int index) {
         HologramLine line = this.lines.remove(index);
         line.hide(this.renderer.getShownPlayers());
-        return this.setLocation(this.getLocation());
+        this.detach(line);
+        this.relayout();
+        return this;
     }
 
     /**
@@ -457,8 +527,7 @@ public Hologram removeLine(int index) {
     @Nonnull
     public Hologram removeLines(@Nonnull Collection<Integer> indexes) {
         Validate.notNull(indexes, "indexes cannot be null!");
-        indexes.forEach(this::removeLine);
-        return this;
+        return this.edit(hologram -> indexes.forEach(this::removeLine));
     }
 
     /**
@@ -469,9 +538,10 @@ public Hologram removeLines(@Nonnull Collection<Integer> indexes) {
      */
     @Nonnull
     public Hologram removeLines(int... indexes) {
-        for (int index : indexes)
-            this.removeLine(index);
-        return this;
+        return this.edit(hologram -> {
+            for (int index : indexes)
+                this.removeLine(index);
+        });
     }
 
     /**
@@ -481,9 +551,10 @@ public Hologram removeLines(int... indexes) {
      */
     @Nonnull
     public Hologram clearLines() {
-        for (int i = this.lines.size() - 1; i >= 0; i--)
-            this.removeLine(i);
-        return this;
+        return this.edit(hologram -> {
+            for (int i = this.lines.size() - 1; i >= 0; i--)
+                this.removeLine(i);
+        });
     }
 
     /**
@@ -506,8 +577,7 @@ public <T> Hologram addLine(@Nullable T value) {
     @Nonnull
     public <T> Hologram addLines(@Nonnull T... lines) {
         Validate.notNull(lines, "lines cannot be null!");
-        Arrays.asList(lines).forEach(this::addLine);
-        return this;
+        return this.edit(hologram -> Arrays.asList(lines).forEach(this::addLine));
     }
 
     /**
@@ -519,8 +589,7 @@ public <T> Hologram addLines(@Nonnull T... lines) {
     @Nonnull
     public <T> Hologram addLines(@Nonnull Collection<T> lines) {
         Validate.notNull(lines, "lines cannot be null!");
-        lines.forEach(this::addLine);
-        return this;
+        return this.edit(hologram -> lines.forEach(this::addLine));
     }
 
     /**
@@ -536,11 +605,11 @@ public <T> Hologram insertLine(int index, @Nullable T value) {
             HologramLine line = (HologramLine) value;
 
             this.lines.add(index, line);
-            line.show(this.renderer.getShownPlayers());
-            this.setLocation(this.getLocation());
+            this.attach(line);
+            this.pendingLines.add(line);
+            this.relayout();
         } else if (value instanceof String || value instanceof ItemStack || value == null) {
-            Location location = this.calculateLocation(this.lines.size());
-            this.insertLine(index, HologramLine.create(this, location, value));
+            this.insertLine(index, HologramLine.create(this, value));
         } else {
             throw new IllegalArgumentException("value must be HologramLine, String, ItemStack or null!");
         }
@@ -571,24 +640,14 @@ public <T> Hologram setLines(@Nonnull T... lines) {
         Validate.notNull(lines, "lines cannot be null!");
         Validate.isTrue(lines.length == 0, "lines cannot be empty!");
 
-        if (lines.length == this.lines.size()) {
-            for (int i = 0; i < lines.length; i++)
-                this.setLine(i, lines[i]);
-        } else if (lines.length > this.lines.size()) {
+        return this.edit(hologram -> {
+            for (int i = this.lines.size() - 1; i >= lines.length; i--)
+                this.removeLine(i);
             for (int i = 0; i < this.lines.size(); i++)
                 this.setLine(i, lines[i]);
             for (int i = this.lines.size(); i < lines.length; i++)
                 this.addLine(lines[i]);
-            this.setLocation(this.getLocation());
-        } else {
-            for (int i = this.lines.size() - 1; i >= lines.length; i--)
-                this.removeLine(i);
-            for (int i = 0; i < lines.length; i++)
-                this.setLine(i, lines[i]);
-            this.setLocation(this.getLocation());
-        }
-
-        return this;
+        });
     }
 
     /**
@@ -604,17 +663,18 @@ public <T> Hologram setLine(int index, @Nullable T value) {
             HologramLine line = (HologramLine) value;
             HologramLine old = this.lines.set(index, line);
             old.hide(this.renderer.getShownPlayers());
-            line.show(this.renderer.getShownPlayers());
+            this.detach(old);
+            this.attach(line);
+            this.pendingLines.add(line);
 
-            this.setLocation(this.getLocation());
+            this.relayout();
         } else if (value instanceof String) {
             HologramLine old = this.lines.get(index);
             if (old instanceof TextLine) {
                 TextLine textLine = (TextLine) old;
                 textLine.setText((String) value);
             } else {
-                Location location = this.calculateLocation(index);
-                this.setLine(index, HologramLine.create(this, location, value));
+                this.setLine(index, HologramLine.create(this, value));
             }
         } else if (value instanceof ItemStack) {
             HologramLine old = this.lines.get(index);
@@ -622,8 +682,7 @@ public <T> Hologram setLine(int index, @Nullable T value) {
                 ItemLine itemLine = (ItemLine) old;
                 itemLine.setItem((ItemStack) value);
             } else {
-                Location location = this.calculateLocation(index);
-                this.setLine(index, HologramLine.create(this, location, value));
+                this.setLine(index, HologramLine.create(this, value));
             }
         } else if (value == null) {
             this.setLine(index, EmptyLine.create(this));
@@ -645,6 +704,7 @@ public Hologram delete() {
             HologramHandler.getContent().remove(this.id);
             this.action.onDelete();
             this.renderer.delete();
+            this.lines.forEach(this::detach);
             this.lines.clear();
         }
         return this;
@@ -652,6 +712,65 @@ public Hologram delete() {
 
 
 
+    /**
+     * Registers line to entity index
+     * to resolve its clicks.
+     *
+     * @param line Line.
+     */
+    private void attach(@Nonnull HologramLine line) {
+        if (line.getEntityID() != -1)
+            EntityIndex.register(line.getEntityID(), line);
+    }
+
+    /**
+     * Unregisters line from entity index
+     * and releases its nms entities.
+     *
+     * @param line Line.
+     */
+    private void detach(@Nonnull HologramLine line) {
+        this.layout.remove(line);
+        this.pendingLines.remove(line);
+        if (line.getEntityID() != -1)
+            EntityIndex.unregister(line.getEntityID(), line);
+        if (line instanceof LazyLine)
+            ((LazyLine<?>) line).release();
+    }
+
+    /**
+     * Recalculates line locations and teleports
+     * only lines whose location is changed, then
+     * shows new lines at their final location. If
+     * hologram is being edited, it is deferred
+     * until edit is completed.
+     */
+    private void relayout() {
+        if (this.editDepth > 0) {
+            this.relayoutPending = true;
+            return;
+        }
+
+        this.relayoutPending = false;
+        for (int i = 0; i < this.lines.size(); i++) {
+            HologramLine line = this.lines.get(i);
+            Location location = this.calculateLocation(i);
+            if (!location.equals(this.layout.get(line))) {
+                this.layout.put(line, location);
+                if (this.pendingLines.contains(line)) line.place(location);
+                else line.setLocation(location);
+            }
+        }
+
+        if (!this.pendingLines.isEmpty()) {
+            List<Player> players = this.renderer.getShownPlayers();
+            for (HologramLine line : this.lines) {
+                if (this.pendingLines.remove(line))
+                    line.show(players);
+            }
+        }
+    }
+
     /**
      * Calculates hologram line location by index.
      *
@@ -2,15 +2,20 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.hologram.builder.HologramBuilder;
+import com.hakan.core.hologram.line.LinePool;
 import com.hakan.core.hologram.listeners.HologramClickListener;
+import com.hakan.core.packet.PacketHandler;
+import com.hakan.core.packet.event.PacketEvent;
+import com.hakan.core.utils.Registry;
 import com.hakan.core.utils.Validate;
+import org.bukkit.event.world.WorldUnloadEvent;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * HologramHandler class to handle
@@ -18,15 +23,48 @@
  */
 public final class HologramHandler {
 
-    private static final Map<String, Hologram> holograms = new HashMap<>();
+    private static final Registry<String, Hologram> holograms = new Registry<>();
+    private static volatile Duration releaseTime = Duration.ofMinutes(1);
 
     /**
      * Initializes holograms.
      */
     public static void initialize() {
-        HCore.asyncScheduler().every(10)
-                .run(() -> HologramHandler.getValues().forEach(hologram -> hologram.getRenderer().render()));
-        HCore.registerListeners(new HologramClickListener());
+        PacketHandler.registerListener(PacketEvent.Type.READ, "PacketPlayInUseEntity", new HologramClickListener());
+
+        HCore.registerEvent(WorldUnloadEvent.class)
+                .consume(event -> LinePool.clear(event.getWorld()));
+        HCore.asyncScheduler().every(1, TimeUnit.SECONDS)
+                .freezeIf((task) -> holograms.isEmpty())
+                .run(() -> {
+                    long time = releaseTime.toMillis();
+                    holograms.values().forEach(hologram -> hologram.releaseIdleLines(time));
+                });
+    }
+
+    /**
+     * Gets time that nms entities of a
+     * hologram are kept after nobody
+     * sees it.
+     *
+     * @return Release time.
+     */
+    @Nonnull
+    public static Duration getReleaseTime() {
+        return releaseTime;
+    }
+
+    /**
+     * Sets time that nms entities of a
+     * hologram are kept after nobody
+     * sees it.
+     *
+     * @param time Release time.
+     */
+    public static void setReleaseTime(@Nonnull Duration time) {
+        Validate.notNull(time, "time cannot be null!");
+        Validate.isTrue(time.isNegative() || time.isZero(), "time must be positive!");
+        releaseTime = time;
     }
 
     /**
@@ -36,7 +74,7 @@ public static void initialize() {
      */
     @Nonnull
     public static Map<String, Hologram> getContentSafe() {
-        return new HashMap<>(holograms);
+        return holograms.copy();
     }
 
     /**
@@ -56,7 +94,7 @@ public static Map<String, Hologram> getContent() {
      */
     @Nonnull
     public static Collection<Hologram> getValuesSafe() {
-        return new ArrayList<>(holograms.values());
+        return holograms.copyValues();
     }
 
     /**
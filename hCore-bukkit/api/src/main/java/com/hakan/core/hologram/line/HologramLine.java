@@ -71,6 +71,15 @@ static HologramLine create(@Nonnull Hologram hologram,
     @Nonnull
     Hologram getHologram();
 
+    /**
+     * Sets parent class of line. Pooled
+     * lines are moved to their new hologram
+     * with this method.
+     *
+     * @param hologram Parent class of line.
+     */
+    void setHologram(@Nonnull Hologram hologram);
+
     /**
      * Gets entity id of line.
      *
@@ -93,6 +102,18 @@ static HologramLine create(@Nonnull Hologram hologram,
      */
     void setLocation(@Nonnull Location location);
 
+    /**
+     * Places line to location without
+     * sending any packet. It is used for
+     * lines that are not spawned yet, their
+     * spawn packets carry the location.
+     *
+     * @param location location of line.
+     */
+    default void place(@Nonnull Location location) {
+        this.setLocation(location);
+    }
+
     /**
      * Sets marker of line.
      *
@@ -0,0 +1,245 @@
+package com.hakan.core.hologram.line;
+
+import com.hakan.core.hologram.Hologram;
+import com.hakan.core.utils.EntityIndex;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * LazyLine class to create nms entities
+ * of line when it is shown first time.
+ * Entities are released to {@link LinePool}
+ * when nobody sees hologram for a while,
+ * and state of line is kept here to apply
+ * it again on next show.
+ *
+ * @param <T> Type of line.
+ */
+public abstract class LazyLine<T extends HologramLine> implements HologramLine {
+
+    private final Class<T> type;
+    private Hologram hologram;
+    private Location location;
+    private Boolean marker;
+    private T line;
+    private long idleSince = -1;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param type     Type of line.
+     * @param hologram Hologram of line.
+     * @param location Location of line.
+     */
+    protected LazyLine(@Nonnull Class<T> type,
+                       @Nonnull Hologram hologram,
+                       @Nonnull Location location) {
+        this.type = Validate.notNull(type, "type cannot be null!");
+        this.hologram = Validate.notNull(hologram, "hologram cannot be null!");
+        this.location = Validate.notNull(location, "location cannot be null!").clone();
+    }
+
+    /**
+     * Creates nms line.
+     *
+     * @param hologram Hologram of line.
+     * @param location Location of line.
+     * @return Nms line.
+     */
+    @Nonnull
+    protected abstract T create(@Nonnull Hologram hologram, @Nonnull Location location);
+
+    /**
+     * Applies content of this
+     * line to nms line.
+     *
+     * @param line Nms line.
+     */
+    protected abstract void apply(@Nonnull T line);
+
+    /**
+     * Gets nms line if it is created.
+     *
+     * @return Nms line, or null.
+     */
+    @Nullable
+    protected final synchronized T find() {
+        return this.line;
+    }
+
+    /**
+     * Gets nms line, takes it from pool
+     * or creates it if it is not created.
+     *
+     * @return Nms line.
+     */
+    @Nonnull
+    protected final synchronized T acquire() {
+        if (this.line == null) {
+            T pooled = LinePool.acquire(this.type);
+            if (pooled != null) {
+                pooled.setHologram(this.hologram);
+                pooled.place(this.location);
+                this.line = pooled;
+            } else {
+                this.line = this.create(this.hologram, this.location);
+            }
+
+            this.apply(this.line);
+            if (this.marker != null)
+                this.line.setMarker(this.marker);
+            EntityIndex.register(this.line.getEntityID(), this);
+        }
+
+        this.idleSince = -1;
+        return this.line;
+    }
+
+    /**
+     * Checks if nms line is created.
+     *
+     * @return If nms line is created, returns true.
+     */
+    public final synchronized boolean isCreated() {
+        return this.line != null;
+    }
+
+    /**
+     * Releases nms line if hologram is
+     * not shown for given time.
+     *
+     * @param shown       Is hologram shown.
+     * @param releaseTime Release time as millis.
+     * @return If nms line is released, returns true.
+     */
+    public final synchronized boolean releaseIfIdle(boolean shown, long releaseTime) {
+        if (this.line == null)
+            return false;
+
+        if (shown) {
+            this.idleSince = -1;
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        if (this.idleSince == -1)
+            this.idleSince = now;
+        if (now - this.idleSince < releaseTime)
+            return false;
+
+        this.release();
+        return true;
+    }
+
+    /**
+     * Releases nms line to pool. Lines
+     * whose marker is changed are not
+     * pooled since they can not be
+     * reset to default.
+     */
+    public final synchronized void release() {
+        if (this.line == null)
+            return;
+
+        EntityIndex.unregister(this.line.getEntityID(), this);
+        if (this.marker == null)
+            LinePool.release(this.type, this.line);
+        this.line = null;
+        this.idleSince = -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public final synchronized Hologram getHologram() {
+        return this.hologram;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final synchronized void setHologram(@Nonnull Hologram hologram) {
+        this.hologram = Validate.notNull(hologram, "hologram cannot be null!");
+        if (this.line != null)
+            this.line.setHologram(hologram);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final synchronized int getEntityID() {
+        return (this.line != null) ? this.line.getEntityID() : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public final synchronized Location getLocation() {
+        return (this.line != null) ?
+                this.line.getLocation() :
+                this.location.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final synchronized void setLocation(@Nonnull Location location) {
+        this.location = Validate.notNull(location, "location cannot be null!").clone();
+        if (this.line != null)
+            this.line.setLocation(location);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final synchronized void place(@Nonnull Location location) {
+        this.location = Validate.notNull(location, "location cannot be null!").clone();
+        if (this.line != null)
+            this.line.place(location);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final synchronized void setMarker(boolean marker) {
+        this.marker = marker;
+        if (this.line != null)
+            this.line.setMarker(marker);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void show(@Nonnull List<Player> players) {
+        Validate.notNull(players, "players cannot be null!");
+        if (!players.isEmpty())
+            this.acquire().show(players);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void hide(@Nonnull List<Player> players) {
+        Validate.notNull(players, "players cannot be null!");
+
+        T line = this.find();
+        if (line != null)
+            line.hide(players);
+    }
+}
@@ -0,0 +1,101 @@
+package com.hakan.core.hologram.line;
+
+import com.hakan.core.utils.Validate;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LinePool class to keep released
+ * hologram lines, so their nms entities
+ * and entity ids are reused by next
+ * lines instead of creating new ones.
+ */
+public final class LinePool {
+
+    private static final int CAPACITY = 512;
+    private static final Map<Class<?>, Deque<HologramLine>> lines = new ConcurrentHashMap<>();
+
+    /**
+     * Takes a released line from pool.
+     *
+     * @param type Type of line.
+     * @param <T>  Type of line.
+     * @return Line, or null if pool is empty.
+     */
+    @Nullable
+    public static <T extends HologramLine> T acquire(@Nonnull Class<T> type) {
+        Deque<HologramLine> deque = lines.get(Validate.notNull(type, "type cannot be null!"));
+        if (deque == null)
+            return null;
+
+        synchronized (deque) {
+            return type.cast(deque.pollFirst());
+        }
+    }
+
+    /**
+     * Puts line to pool. Line must
+     * not be shown to any player.
+     *
+     * @param type Type of line.
+     * @param line Line.
+     * @param <T>  Type of line.
+     * @return If line is pooled, returns true.
+     */
+    public static <T extends HologramLine> boolean release(@Nonnull Class<T> type, @Nonnull T line) {
+        Validate.notNull(type, "type cannot be null!");
+        Validate.notNull(line, "line cannot be null!");
+
+        Deque<HologramLine> deque = lines.computeIfAbsent(type, key -> new ArrayDeque<>());
+        synchronized (deque) {
+            if (deque.size() >= CAPACITY)
+                return false;
+            deque.addFirst(line);
+            return true;
+        }
+    }
+
+    /**
+     * Gets size of pool.
+     *
+     * @param type Type of line.
+     * @return Size.
+     */
+    public static int size(@Nonnull Class<? extends HologramLine> type) {
+        Deque<HologramLine> deque = lines.get(Validate.notNull(type, "type cannot be null!"));
+        if (deque == null)
+            return 0;
+
+        synchronized (deque) {
+            return deque.size();
+        }
+    }
+
+    /**
+     * Removes pooled lines of world,
+     * so they do not keep it loaded.
+     *
+     * @param world World.
+     */
+    public static void clear(@Nonnull World world) {
+        Validate.notNull(world, "world cannot be null!");
+        lines.values().forEach(deque -> {
+            synchronized (deque) {
+                deque.removeIf(line -> world.equals(line.getLocation().getWorld()));
+            }
+        });
+    }
+
+    /**
+     * Removes all pooled lines.
+     */
+    public static void clear() {
+        lines.clear();
+    }
+}
@@ -27,7 +27,7 @@ public static EmptyLine create(@Nonnull Hologram hologram) {
     }
 
 
-    private final Hologram hologram;
+    private Hologram hologram;
     private Location location;
 
     /**
@@ -53,6 +53,14 @@ public Hologram getHologram() {
         return this.hologram;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHologram(@Nonnull Hologram hologram) {
+        this.hologram = Validate.notNull(hologram, "hologram cannot be null!");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2,7 +2,6 @@
 
 import com.hakan.core.hologram.Hologram;
 import com.hakan.core.hologram.line.HologramLine;
-import com.hakan.core.utils.ReflectionUtils;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Location;
 import org.bukkit.inventory.ItemStack;
@@ -28,7 +27,8 @@ static ItemLine create(@Nonnull Hologram hologram,
     }
 
     /**
-     * Creates new item line.
+     * Creates new item line. Entities are
+     * created when line is shown first time.
      *
      * @param hologram  Hologram of line.
      * @param location  Location of line.
@@ -43,12 +43,7 @@ static ItemLine create(@Nonnull Hologram hologram,
         Validate.notNull(location, "location cannot be null!");
         Validate.notNull(itemStack, "item stack cannot be null!");
 
-        ItemLine line = ReflectionUtils.newInstance("com.hakan.core.hologram.line.item.ItemLine_%s",
-                new Class[]{Hologram.class, Location.class}, new Object[]{hologram, location});
-        line.setLocation(location);
-        line.setItem(itemStack);
-
-        return line;
+        return new LazyItemLine(hologram, location, itemStack);
     }
 
 
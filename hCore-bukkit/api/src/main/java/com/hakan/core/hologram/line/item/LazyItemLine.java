@@ -0,0 +1,71 @@
+package com.hakan.core.hologram.line.item;
+
+import com.hakan.core.hologram.Hologram;
+import com.hakan.core.hologram.line.LazyLine;
+import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+import org.bukkit.inventory.ItemStack;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@inheritDoc}
+ */
+public final class LazyItemLine extends LazyLine<ItemLine> implements ItemLine {
+
+    private volatile ItemStack item;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param hologram Hologram of line.
+     * @param location Location of line.
+     * @param item     ItemStack to display.
+     */
+    public LazyItemLine(@Nonnull Hologram hologram,
+                        @Nonnull Location location,
+                        @Nonnull ItemStack item) {
+        super(ItemLine.class, hologram, location);
+        this.item = Validate.notNull(item, "item cannot be null!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public ItemStack getItem() {
+        return this.item;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setItem(@Nonnull ItemStack item) {
+        this.item = Validate.notNull(item, "item cannot be null!");
+
+        ItemLine line = this.find();
+        if (line != null)
+            line.setItem(item);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    protected ItemLine create(@Nonnull Hologram hologram, @Nonnull Location location) {
+        return ReflectionUtils.newInstance("com.hakan.core.hologram.line.item.ItemLine_%s",
+                new Class[]{Hologram.class, Location.class}, new Object[]{hologram, location});
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void apply(@Nonnull ItemLine line) {
+        line.setItem(this.item);
+    }
+}
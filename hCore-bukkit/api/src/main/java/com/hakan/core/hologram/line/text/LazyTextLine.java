@@ -0,0 +1,74 @@
+package com.hakan.core.hologram.line.text;
+
+import com.hakan.core.HCore;
+import com.hakan.core.hologram.Hologram;
+import com.hakan.core.hologram.line.LazyLine;
+import com.hakan.core.protocol.ProtocolVersion;
+import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@inheritDoc}
+ */
+public final class LazyTextLine extends LazyLine<TextLine> implements TextLine {
+
+    private volatile String text;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param hologram Hologram of line.
+     * @param location Location of line.
+     * @param text     Text to display.
+     */
+    public LazyTextLine(@Nonnull Hologram hologram,
+                        @Nonnull Location location,
+                        @Nonnull String text) {
+        super(TextLine.class, hologram, location);
+        this.text = Validate.notNull(text, "text cannot be null!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setText(@Nonnull String text) {
+        this.text = Validate.notNull(text, "text cannot be null!");
+
+        TextLine line = this.find();
+        if (line != null)
+            line.setText(text);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    protected TextLine create(@Nonnull Hologram hologram, @Nonnull Location location) {
+        String path = HCore.getProtocolVersion().isNewerOrEqual(ProtocolVersion.v1_19_R3) ?
+                "com.hakan.core.hologram.line.text.TextDisplayLine_%s" : "com.hakan.core.hologram.line.text.TextLine_%s";
+        return ReflectionUtils.newInstance(path,
+                new Class[]{Hologram.class, Location.class}, new Object[]{hologram, location});
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void apply(@Nonnull TextLine line) {
+        line.setText(this.text);
+    }
+}
@@ -2,7 +2,6 @@
 
 import com.hakan.core.hologram.Hologram;
 import com.hakan.core.hologram.line.HologramLine;
-import com.hakan.core.utils.ReflectionUtils;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Location;
 
@@ -27,7 +26,10 @@ static TextLine create(@Nonnull Hologram hologram,
     }
 
     /**
-     * Creates new text line.
+     * Creates new text line. Servers on 1.19.4
+     * or newer use text display entities,
+     * older ones use armor stands. Entities
+     * are created when line is shown first time.
      *
      * @param hologram Hologram of line.
      * @param location Location of line.
@@ -42,12 +44,7 @@ static TextLine create(@Nonnull Hologram hologram,
         Validate.notNull(location, "location cannot be null!");
         Validate.notNull(text, "text cannot be null!");
 
-        TextLine line = ReflectionUtils.newInstance("com.hakan.core.hologram.line.text.TextLine_%s",
-                new Class[]{Hologram.class, Location.class}, new Object[]{hologram, location});
-        line.setLocation(location);
-        line.setText(text);
-
-        return line;
+        return new LazyTextLine(hologram, location, text);
     }
 
 
@@ -3,9 +3,11 @@
 import com.hakan.core.HCore;
 import com.hakan.core.hologram.Hologram;
 import com.hakan.core.npc.action.NpcAction;
-import com.hakan.core.npc.entity.NpcEntity;
+import com.hakan.core.npc.entity.LazyNpcEntity;
+import com.hakan.core.npc.look.NpcLook;
 import com.hakan.core.npc.utils.NpcUtils;
-import com.hakan.core.pathfinder.Pathfinder;
+import com.hakan.core.pathfinder.PathMode;
+import com.hakan.core.pathfinder.PathfinderHandler;
 import com.hakan.core.renderer.Renderer;
 import com.hakan.core.skin.Skin;
 import com.hakan.core.utils.Validate;
@@ -36,13 +38,14 @@ public final class Npc {
     private final Renderer renderer;
     private final Hologram hologram;
     private final NpcAction action;
-    private final NpcEntity entity;
+    private final NpcLook look;
+    private final LazyNpcEntity entity;
     private final Map<EquipmentType, ItemStack> equipments;
 
     private Skin skin;
     private LookTarget target;
     private boolean dead = false;
-    private boolean walking = false;
+    private volatile boolean walking = false;
 
     /**
      * Constructor to create new NPC.
@@ -72,11 +75,12 @@ public Npc(@Nonnull String id,
                 .showEveryone(showEveryone).forceBuild();
 
         this.action = new NpcAction(this);
+        this.look = new NpcLook(this);
         this.id = Validate.notNull(id, "id cannot be null!");
         this.skin = Validate.notNull(skin, "skin cannot be null!");
         this.target = Validate.notNull(target, "target cannot be null!");
         this.equipments = Validate.notNull(equipments, "equipments cannot be null!");
-        this.entity = NpcUtils.createEntity(this);
+        this.entity = new LazyNpcEntity(this);
 
         this.hologram.addLines(Validate.notNull(lines, "lines cannot be null!"));
         this.hologram.showEveryone(showEveryone);
@@ -126,6 +130,40 @@ public NpcAction getAction() {
         return this.action;
     }
 
+    /**
+     * Gets look manager of NPC.
+     *
+     * @return NPC look manager.
+     */
+    @Nonnull
+    public NpcLook getLook() {
+        return this.look;
+    }
+
+    /**
+     * Gets look update interval as ticks.
+     *
+     * @return Look update interval.
+     */
+    public int getLookInterval() {
+        return this.look.getInterval();
+    }
+
+    /**
+     * Sets look update interval as ticks.
+     * NPCs that are far from players or
+     * not important can be updated less
+     * often.
+     *
+     * @param interval Look update interval.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Npc setLookInterval(int interval) {
+        this.look.setInterval(interval);
+        return this;
+    }
+
     /**
      * Gets npc location.
      *
@@ -187,19 +225,22 @@ public Hologram getHologram() {
     }
 
     /**
-     * Gets nms entity of npc.
+     * Gets nms entity of npc. Nms entity
+     * is created when npc is shown first
+     * time and released when nobody sees
+     * npc for a while.
      *
      * @return NpcEntity.
      */
     @Nonnull
-    public NpcEntity getEntity() {
+    public LazyNpcEntity getEntity() {
         return this.entity;
     }
 
     /**
      * Get the id of nms entity.
      *
-     * @return Entity id.
+     * @return Entity id, or -1 if nms entity is not created.
      */
     public int getEntityID() {
         return this.entity.getID();
@@ -437,6 +478,7 @@ public Map<EquipmentType, ItemStack> getEquipments() {
      */
     public Npc setTarget(@Nonnull LookTarget target) {
         this.target = Validate.notNull(target, "target type cannot be null!");
+        this.look.markDirty();
         return this;
     }
 
@@ -477,6 +519,7 @@ public Npc setLocation(@Nonnull Location location) {
         this.hologram.setLocation(location.clone().add(0, (this.hologram.getLines().size() * this.hologram.getLineDistance() / 2 + 2), 0));
         this.renderer.setLocation(location);
         this.entity.updateLocation(this.renderer.getShownPlayers());
+        this.look.markDirty();
         return this;
     }
 
@@ -540,28 +583,49 @@ public Npc lookAt(@Nonnull Location location) {
      * @param speed Speed.
      */
     public Npc walk(@Nonnull Location to, double speed) {
+        return this.walk(to, speed, PathMode.DEFAULT);
+    }
+
+    /**
+     * Moves NPC.
+     *
+     * @param to    Destination location.
+     * @param speed Speed.
+     * @param mode  Search mode of path.
+     */
+    public Npc walk(@Nonnull Location to, double speed, @Nonnull PathMode mode) {
         Validate.notNull(to, "to location cannot be null!");
+        Validate.notNull(mode, "mode cannot be null!");
         Validate.isTrue(this.walking, "NPC is already walking!");
         Validate.isTrue(to.getWorld() == null, "to world cannot be null!");
         Validate.isTrue(!to.getWorld().equals(this.getWorld()), "to and from worlds must be equal!");
 
         this.walking = true;
 
-        Pathfinder pathfinder = new Pathfinder(this.getLocation(), to);
-        Location[] locations = pathfinder.getPath(5);
-        locations[locations.length - 1] = to;
-
-        HCore.asyncScheduler()
-                .limit(locations.length - 1)
-                .terminateIf((task) -> !this.walking)
-                .every((long) (100 / speed), TimeUnit.MILLISECONDS)
-                .whenEnded(() -> this.walking = false)
-                .run((task, count) -> {
-                    Location location = locations[Math.toIntExact(count)];
-                    if (location == null) return;
-
-                    this.setLocation(location);
-                });
+        PathfinderHandler.findPath(this.getLocation(), to, mode, 5).whenComplete((locations, error) -> {
+            if (error != null) {
+                this.walking = false;
+                error.printStackTrace();
+                return;
+            } else if (locations.length == 0 || !this.walking) {
+                this.walking = false;
+                return;
+            }
+
+            locations[locations.length - 1] = to;
+
+            HCore.asyncScheduler()
+                    .limit(locations.length - 1)
+                    .terminateIf((task) -> !this.walking)
+                    .every((long) (100 / speed), TimeUnit.MILLISECONDS)
+                    .whenEnded(() -> this.walking = false)
+                    .run((task, count) -> {
+                        Location location = locations[Math.toIntExact(count)];
+                        if (location == null) return;
+
+                        this.setLocation(location);
+                    });
+        });
 
         return this;
     }
@@ -573,6 +637,7 @@ public Npc walk(@Nonnull Location to, double speed) {
      */
     public Npc show(@Nonnull List<Player> players) {
         this.entity.show(Validate.notNull(players, "players cannot be null!"));
+        this.look.forget(players);
         return this;
     }
 
@@ -601,7 +666,9 @@ public Npc delete() {
         this.dead = true;
         this.walking = false;
 
-        return this.hide(this.renderer.getShownPlayers());
+        this.hide(this.renderer.getShownPlayers());
+        this.entity.release();
+        return this;
     }
 
 
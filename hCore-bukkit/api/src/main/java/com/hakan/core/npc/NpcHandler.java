@@ -2,22 +2,27 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.npc.builder.NpcBuilder;
+import com.hakan.core.npc.entity.NpcInfoQueue;
 import com.hakan.core.npc.listener.NpcClickListener;
-import com.hakan.core.npc.utils.NpcUtils;
+import com.hakan.core.packet.PacketHandler;
+import com.hakan.core.packet.event.PacketEvent;
 import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.EntityIndex;
+import com.hakan.core.utils.Registry;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.entity.Entity;
-import org.bukkit.entity.Player;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * NpcHandler class to create
@@ -25,7 +30,11 @@
  */
 public final class NpcHandler {
 
-    private static final Map<String, Npc> npcList = new HashMap<>();
+    private static final Registry<String, Npc> npcList = new Registry<>();
+    private static final Registry<UUID, Long> moves = new Registry<>();
+    private static volatile long tick;
+    private static NpcInfoQueue infoQueue;
+    private static volatile Duration releaseTime = Duration.ofMinutes(1);
 
     /**
      * Initializes the NPC system.
@@ -36,31 +45,86 @@ public static void initialize() {
                 .filter(entity -> entity.getHealth() == 2.5179998874664307f)
                 .forEach(Entity::remove));
 
-        HCore.asyncScheduler().every(10)
-                .freezeIf((task) -> npcList.isEmpty())
-                .run(() -> npcList.values().forEach(npc -> npc.getRenderer().render()));
+        HCore.registerEvent(PlayerMoveEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled() && event.getTo() != null)
+                .filter(event -> event.getFrom().getX() != event.getTo().getX()
+                        || event.getFrom().getY() != event.getTo().getY()
+                        || event.getFrom().getZ() != event.getTo().getZ())
+                .consume(event -> moves.put(event.getPlayer().getUniqueId(), tick));
+        HCore.registerEvent(PlayerQuitEvent.class)
+                .consume(event -> moves.remove(event.getPlayer().getUniqueId()));
 
         HCore.asyncScheduler().every(1)
                 .freezeIf((task) -> npcList.isEmpty())
                 .freezeIf((task) -> Bukkit.getOnlinePlayers().isEmpty())
-                .run(() -> npcList.values().forEach(npc -> {
-                    if (npc.getLookTarget().equals(Npc.LookTarget.NEAREST)) {
-                        Player nearestPlayer = NpcUtils.getNearestPlayer(npc);
-                        if (nearestPlayer != null) npc.lookAt(nearestPlayer);
-                    } else if (npc.getLookTarget().equals(Npc.LookTarget.INDIVIDUAL)) {
-                        npc.getRenderer().getShownPlayers().forEach(player -> {
-                            Location targetLocation = player.getEyeLocation();
-                            Location npcLocation = npc.getLocation().add(0, 1.62, 0);
-                            Location teleportLocation = NpcUtils.calculateVectorAsLocation(npcLocation, targetLocation);
-
-                            npc.getRenderer().setLocation(teleportLocation.subtract(0, 1.62, 0));
-                            npc.getEntity().updateHeadRotation(Collections.singletonList(player));
-                        });
-                    }
-                }));
+                .run(() -> {
+                    long current = tick;
+                    npcList.values().forEach(npc -> npc.getLook().update(current));
+                    tick = current + 1;
+                });
+
+        infoQueue = new NpcInfoQueue(ReflectionUtils.newInstance("com.hakan.core.npc.entity.NpcInfoFactory_%s"));
+        HCore.asyncScheduler().every(1)
+                .freezeIf((task) -> infoQueue.isEmpty())
+                .run(() -> infoQueue.flush());
+        HCore.asyncScheduler().every(1, TimeUnit.SECONDS)
+                .freezeIf((task) -> npcList.isEmpty())
+                .run(() -> {
+                    long time = releaseTime.toMillis();
+                    npcList.values().forEach(npc -> npc.getEntity().releaseIfIdle(npc.getRenderer().isShown(), time));
+                });
 
         NpcClickListener clickListener = ReflectionUtils.newInstance("com.hakan.core.npc.listener.NpcClickListener_%s");
-        HCore.registerListeners(clickListener);
+        PacketHandler.registerListener(PacketEvent.Type.READ, "PacketPlayInUseEntity", clickListener);
+    }
+
+    /**
+     * Gets info queue that batches
+     * player info packets of NPCs.
+     *
+     * @return Info queue.
+     */
+    @Nonnull
+    public static NpcInfoQueue getInfoQueue() {
+        return infoQueue;
+    }
+
+    /**
+     * Gets time that nms entity of
+     * a NPC is kept after nobody
+     * sees it.
+     *
+     * @return Release time.
+     */
+    @Nonnull
+    public static Duration getReleaseTime() {
+        return releaseTime;
+    }
+
+    /**
+     * Sets time that nms entity of
+     * a NPC is kept after nobody
+     * sees it.
+     *
+     * @param time Release time.
+     */
+    public static void setReleaseTime(@Nonnull Duration time) {
+        Validate.notNull(time, "time cannot be null!");
+        Validate.isTrue(time.isNegative() || time.isZero(), "time must be positive!");
+        releaseTime = time;
+    }
+
+    /**
+     * Gets tick of NPC loop that
+     * player moved last time.
+     *
+     * @param uid UID of player.
+     * @return Tick, or -1 if player did not move.
+     */
+    public static long getLastMove(@Nonnull UUID uid) {
+        Long move = moves.get(Validate.notNull(uid, "uid cannot be null!"));
+        return (move != null) ? move : -1;
     }
 
     /**
@@ -70,7 +134,7 @@ public static void initialize() {
      */
     @Nonnull
     public static Map<String, Npc> getContentSafe() {
-        return new HashMap<>(npcList);
+        return npcList.copy();
     }
 
     /**
@@ -90,7 +154,7 @@ public static Map<String, Npc> getContent() {
      */
     @Nonnull
     public static Collection<Npc> getValuesSafe() {
-        return new ArrayList<>(npcList.values());
+        return npcList.copyValues();
     }
 
     /**
@@ -143,10 +207,7 @@ public static Npc getByID(@Nonnull String id) {
      */
     @Nonnull
     public static Optional<Npc> findByEntityID(int id) {
-        for (Npc npc : npcList.values())
-            if (npc.getEntityID() == id)
-                return Optional.of(npc);
-        return Optional.empty();
+        return EntityIndex.find(id, Npc.class);
     }
 
     /**
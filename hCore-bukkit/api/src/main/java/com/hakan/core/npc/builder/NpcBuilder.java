@@ -36,6 +36,7 @@ public final class NpcBuilder {
     private List<String> lines;
     private Map<Npc.EquipmentType, ItemStack> equipments;
 
+    private int lookInterval;
     private long clickDelay;
     private Consumer<Npc> spawnConsumer;
     private Consumer<Npc> deleteConsumer;
@@ -55,6 +56,7 @@ public NpcBuilder(@Nonnull String id) {
         this.equipments = new HashMap<>();
         this.target = Npc.LookTarget.CONSTANT;
         this.location = new Location(Bukkit.getWorlds().get(0), 0, 0, 0);
+        this.lookInterval = 1;
         this.clickDelay = 0;
     }
 
@@ -190,6 +192,18 @@ public NpcBuilder target(@Nonnull Npc.LookTarget target) {
         return this;
     }
 
+    /**
+     * Sets look update interval of npc.
+     *
+     * @param interval Interval as ticks.
+     * @return NpcBuilder instance.
+     */
+    @Nonnull
+    public NpcBuilder lookInterval(int interval) {
+        this.lookInterval = Math.max(1, interval);
+        return this;
+    }
+
     /**
      * Sets click action of npc.
      *
@@ -321,6 +335,7 @@ public Npc build() {
         if (this.deleteConsumer != null)
             npc.whenDeleted(this.deleteConsumer);
         npc.getAction().setClickDelay(this.clickDelay);
+        npc.setLookInterval(this.lookInterval);
 
         NpcHandler.getContent().put(this.id, npc);
         return npc;
@@ -0,0 +1,207 @@
+package com.hakan.core.npc.entity;
+
+import com.hakan.core.npc.Npc;
+import com.hakan.core.npc.utils.NpcUtils;
+import com.hakan.core.utils.EntityIndex;
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * LazyNpcEntity class to create nms
+ * entity of NPC when it is shown first
+ * time, and release it when nobody sees
+ * NPC for a while. Nms entity reads its
+ * state from NPC when it is created, so
+ * updates without viewers are skipped.
+ */
+public final class LazyNpcEntity implements NpcEntity {
+
+    private final Npc npc;
+    private NpcEntity entity;
+    private long idleSince = -1;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param npc Npc instance.
+     */
+    public LazyNpcEntity(@Nonnull Npc npc) {
+        this.npc = Validate.notNull(npc, "npc cannot be null!");
+    }
+
+    /**
+     * Checks if nms entity is created.
+     *
+     * @return If nms entity is created, returns true.
+     */
+    public synchronized boolean isCreated() {
+        return this.entity != null;
+    }
+
+    /**
+     * Releases nms entity if NPC is
+     * not shown for given time.
+     *
+     * @param shown       Is NPC shown.
+     * @param releaseTime Release time as millis.
+     * @return If nms entity is released, returns true.
+     */
+    public synchronized boolean releaseIfIdle(boolean shown, long releaseTime) {
+        if (this.entity == null)
+            return false;
+
+        if (shown) {
+            this.idleSince = -1;
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        if (this.idleSince == -1)
+            this.idleSince = now;
+        if (now - this.idleSince < releaseTime)
+            return false;
+
+        this.release();
+        return true;
+    }
+
+    /**
+     * Releases nms entity.
+     */
+    public synchronized void release() {
+        if (this.entity == null)
+            return;
+
+        EntityIndex.unregister(this.entity.getID(), this.npc);
+        this.entity = null;
+        this.idleSince = -1;
+    }
+
+    /**
+     * Gets the id of nms entity.
+     *
+     * @return Entity id, or -1 if it is not created.
+     */
+    @Override
+    public synchronized int getID() {
+        return (this.entity != null) ? this.entity.getID() : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object getHandle() {
+        return this.acquire().getHandle();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playAnimation(@Nonnull List<Player> players, @Nonnull Npc.Animation animation) {
+        NpcEntity entity = this.find();
+        if (entity != null)
+            entity.playAnimation(players, animation);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateLocation(@Nonnull List<Player> players) {
+        NpcEntity entity = this.find();
+        if (entity != null)
+            entity.updateLocation(players);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateHeadRotation(@Nonnull List<Player> players) {
+        NpcEntity entity = this.find();
+        if (entity != null)
+            entity.updateHeadRotation(players);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateSkin(@Nonnull List<Player> players) {
+        NpcEntity entity = this.find();
+        if (entity != null)
+            entity.updateSkin(players);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateEquipments(@Nonnull List<Player> players) {
+        NpcEntity entity = this.find();
+        if (entity != null)
+            entity.updateEquipments(players);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void show(@Nonnull List<Player> players) {
+        Validate.notNull(players, "players cannot be null!");
+        if (!players.isEmpty())
+            this.acquire().show(players);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void spawn(@Nonnull Player player) {
+        this.acquire().spawn(player);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void hide(@Nonnull List<Player> players) {
+        NpcEntity entity = this.find();
+        if (entity != null)
+            entity.hide(players);
+    }
+
+    /**
+     * Gets nms entity if it is created.
+     *
+     * @return Nms entity, or null.
+     */
+    @Nullable
+    private synchronized NpcEntity find() {
+        return this.entity;
+    }
+
+    /**
+     * Gets nms entity, creates
+     * it if it is not created.
+     *
+     * @return Nms entity.
+     */
+    @Nonnull
+    private synchronized NpcEntity acquire() {
+        if (this.entity == null) {
+            this.entity = NpcUtils.createEntity(this.npc);
+            EntityIndex.register(this.entity.getID(), this.npc);
+        }
+
+        this.idleSince = -1;
+        return this.entity;
+    }
+}
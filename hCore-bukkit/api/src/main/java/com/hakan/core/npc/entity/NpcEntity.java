@@ -15,6 +15,14 @@ public interface NpcEntity {
      */
     int getID();
 
+    /**
+     * Gets nms player of NPC.
+     *
+     * @return Nms player.
+     */
+    @Nonnull
+    Object getHandle();
+
     /**
      * Plays animation to given players.
      *
@@ -58,6 +66,14 @@ public interface NpcEntity {
      */
     void show(@Nonnull List<Player> players);
 
+    /**
+     * Spawns NPC to player. Player info
+     * of NPC must be sent before.
+     *
+     * @param player Player.
+     */
+    void spawn(@Nonnull Player player);
+
     /**
      * Hides NPC to players.
      *
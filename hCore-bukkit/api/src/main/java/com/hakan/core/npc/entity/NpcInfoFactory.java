@@ -0,0 +1,36 @@
+package com.hakan.core.npc.entity;
+
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * NpcInfoFactory interface to create
+ * player info packets that contain
+ * more than one NPC.
+ */
+public interface NpcInfoFactory {
+
+    /**
+     * Creates packet that adds
+     * NPCs to tab list of player.
+     *
+     * @param player   Player.
+     * @param entities Npc entities.
+     * @return Packet.
+     */
+    @Nonnull
+    Object createAdd(@Nonnull Player player, @Nonnull List<NpcEntity> entities);
+
+    /**
+     * Creates packet that removes
+     * NPCs from tab list of player.
+     *
+     * @param player   Player.
+     * @param entities Npc entities.
+     * @return Packet.
+     */
+    @Nonnull
+    Object createRemove(@Nonnull Player player, @Nonnull List<NpcEntity> entities);
+}
@@ -0,0 +1,187 @@
+package com.hakan.core.npc.entity;
+
+import com.hakan.core.HCore;
+import com.hakan.core.packet.PacketHandler;
+import com.hakan.core.packet.batch.PacketBatch;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * NpcInfoQueue class to batch player
+ * info packets of NPCs. Shown NPCs are
+ * collected per player and sent as one
+ * packet on next flush, then their location
+ * is updated and they are removed from tab
+ * list by shared delayed queues. Packets of
+ * each flush are sent in one packet batch.
+ */
+public final class NpcInfoQueue {
+
+    private static final int LOCATION_DELAY = 2;
+    private static final int REMOVE_DELAY = 5;
+
+    /**
+     * Polls entries whose deadline is
+     * over and groups them by player.
+     *
+     * @param queue   Delayed queue.
+     * @param target  Entities by player.
+     * @param current Current tick.
+     */
+    private static void poll(@Nonnull Deque<Delayed> queue, @Nonnull Map<UUID, List<NpcEntity>> target, long current) {
+        while (!queue.isEmpty() && queue.peek().deadline <= current) {
+            Delayed delayed = queue.poll();
+            target.computeIfAbsent(delayed.uid, uid -> new ArrayList<>()).addAll(delayed.entities);
+        }
+    }
+
+
+    private final NpcInfoFactory factory;
+    private final Map<UUID, List<NpcEntity>> adds;
+    private final Deque<Delayed> relocations;
+    private final Deque<Delayed> removals;
+    private long tick;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param factory Info packet factory.
+     */
+    public NpcInfoQueue(@Nonnull NpcInfoFactory factory) {
+        this.factory = Validate.notNull(factory, "factory cannot be null!");
+        this.adds = new LinkedHashMap<>();
+        this.relocations = new ArrayDeque<>();
+        this.removals = new ArrayDeque<>();
+    }
+
+    /**
+     * Checks if there is nothing
+     * to flush.
+     *
+     * @return If queue is empty, returns true.
+     */
+    public synchronized boolean isEmpty() {
+        return this.adds.isEmpty() && this.relocations.isEmpty() && this.removals.isEmpty();
+    }
+
+    /**
+     * Queues NPC to be shown to players
+     * on next flush.
+     *
+     * @param players Players.
+     * @param entity  Npc entity.
+     */
+    public synchronized void show(@Nonnull List<Player> players, @Nonnull NpcEntity entity) {
+        Validate.notNull(players, "players cannot be null!");
+        Validate.notNull(entity, "entity cannot be null!");
+
+        for (Player player : players) {
+            List<NpcEntity> entities = this.adds.computeIfAbsent(player.getUniqueId(), uid -> new ArrayList<>());
+            if (!entities.contains(entity))
+                entities.add(entity);
+        }
+    }
+
+    /**
+     * Cancels queued show of NPC
+     * for players.
+     *
+     * @param players Players.
+     * @param entity  Npc entity.
+     */
+    public synchronized void cancel(@Nonnull List<Player> players, @Nonnull NpcEntity entity) {
+        Validate.notNull(players, "players cannot be null!");
+        Validate.notNull(entity, "entity cannot be null!");
+
+        for (Player player : players) {
+            List<NpcEntity> entities = this.adds.get(player.getUniqueId());
+            if (entities != null && entities.remove(entity) && entities.isEmpty())
+                this.adds.remove(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Sends one remove packet for each player
+     * whose delay is over, location updates of
+     * NPCs spawned a few ticks ago, and one add
+     * packet followed by spawn packets for each
+     * player that has queued NPCs.
+     */
+    public void flush() {
+        Map<UUID, List<NpcEntity>> shows;
+        Map<UUID, List<NpcEntity>> moves = new LinkedHashMap<>();
+        Map<UUID, List<NpcEntity>> hides = new LinkedHashMap<>();
+
+        synchronized (this) {
+            long current = this.tick++;
+            NpcInfoQueue.poll(this.relocations, moves, current);
+            NpcInfoQueue.poll(this.removals, hides, current);
+
+            shows = new LinkedHashMap<>(this.adds);
+            shows.forEach((uid, entities) -> {
+                this.relocations.add(new Delayed(uid, entities, current + LOCATION_DELAY));
+                this.removals.add(new Delayed(uid, entities, current + REMOVE_DELAY));
+            });
+            this.adds.clear();
+        }
+
+        try (PacketBatch batch = PacketHandler.batch()) {
+            hides.forEach((uid, entities) -> {
+                Player player = Bukkit.getPlayer(uid);
+                if (player != null)
+                    HCore.sendPacket(player, this.factory.createRemove(player, entities));
+            });
+            moves.forEach((uid, entities) -> {
+                Player player = Bukkit.getPlayer(uid);
+                if (player == null)
+                    return;
+
+                List<Player> players = Collections.singletonList(player);
+                entities.forEach(entity -> entity.updateLocation(players));
+            });
+            shows.forEach((uid, entities) -> {
+                Player player = Bukkit.getPlayer(uid);
+                if (player == null)
+                    return;
+
+                HCore.sendPacket(player, this.factory.createAdd(player, entities));
+                entities.forEach(entity -> entity.spawn(player));
+            });
+        }
+    }
+
+
+    /**
+     * Entry of delayed queues.
+     */
+    private static final class Delayed {
+
+        private final UUID uid;
+        private final List<NpcEntity> entities;
+        private final long deadline;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param uid      UID of player.
+         * @param entities Npc entities.
+         * @param deadline Tick to be sent.
+         */
+        private Delayed(@Nonnull UUID uid, @Nonnull List<NpcEntity> entities, long deadline) {
+            this.uid = uid;
+            this.entities = entities;
+            this.deadline = deadline;
+        }
+    }
+}
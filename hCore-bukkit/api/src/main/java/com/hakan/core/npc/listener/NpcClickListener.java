@@ -1,9 +1,8 @@
 package com.hakan.core.npc.listener;
 
 import com.hakan.core.packet.event.PacketEvent;
+import com.hakan.core.packet.listener.PacketListener;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 
 import javax.annotation.Nonnull;
 
@@ -11,20 +10,15 @@
  * NpcClickListener class to listen
  * all click actions of npc by players.
  */
-public abstract class NpcClickListener implements Listener {
+public abstract class NpcClickListener implements PacketListener {
 
     /**
-     * This will run every packet event.
+     * This will run every use entity packet.
      *
      * @param event PacketEvent.
      */
-    @EventHandler
-    public final void onPacketEvent(@Nonnull PacketEvent event) {
-        if (!event.getType().equals(PacketEvent.Type.READ))
-            return;
-        else if (!event.getPacket().getClass().getName().contains("PacketPlayInUseEntity"))
-            return;
-
+    @Override
+    public final void onPacket(@Nonnull PacketEvent event) {
         this.onEntityInteractEvent(event, event.getPlayer());
     }
 
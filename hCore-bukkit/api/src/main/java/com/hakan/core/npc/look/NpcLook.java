@@ -0,0 +1,216 @@
+package com.hakan.core.npc.look;
+
+import com.hakan.core.npc.Npc;
+import com.hakan.core.npc.NpcHandler;
+import com.hakan.core.npc.utils.NpcUtils;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * NpcLook class to handle look
+ * target of NPC. Rotation is only
+ * calculated again if NPC or its
+ * viewers moved, and it is only
+ * sent if its packet values changed.
+ */
+public final class NpcLook {
+
+    /**
+     * Quantizes yaw and pitch as they
+     * are sent in rotation packets.
+     *
+     * @param yaw   Yaw.
+     * @param pitch Pitch.
+     * @return Head yaw, body yaw and pitch bytes.
+     */
+    public static int quantize(float yaw, float pitch) {
+        int headYaw = (byte) (yaw * (256f / 360f)) & 0xFF;
+        int bodyYaw = (byte) Math.round(yaw % 360f * (256f / 360f)) & 0xFF;
+        int bodyPitch = (byte) Math.round(pitch % 360f * (256f / 360f)) & 0xFF;
+        return (headYaw << 16) | (bodyYaw << 8) | bodyPitch;
+    }
+
+
+    private final Npc npc;
+    private final Map<UUID, Integer> rotations;
+    private int interval;
+    private boolean dirty;
+    private long lastUpdate;
+    private int lastViewers;
+    private int rotation;
+
+    /**
+     * NpcLook constructor.
+     *
+     * @param npc Npc object.
+     */
+    public NpcLook(@Nonnull Npc npc) {
+        this.npc = Validate.notNull(npc, "Npc object cannot be null!");
+        this.rotations = new HashMap<>();
+        this.interval = 1;
+        this.dirty = true;
+        this.rotation = -1;
+    }
+
+    /**
+     * Gets Npc object.
+     *
+     * @return Npc object.
+     */
+    @Nonnull
+    public Npc getNpc() {
+        return this.npc;
+    }
+
+    /**
+     * Gets update interval as ticks.
+     *
+     * @return Update interval.
+     */
+    public synchronized int getInterval() {
+        return this.interval;
+    }
+
+    /**
+     * Sets update interval as ticks.
+     *
+     * @param interval Update interval.
+     */
+    public synchronized void setInterval(int interval) {
+        Validate.isTrue(interval <= 0, "interval must be greater than 0!");
+        this.interval = interval;
+    }
+
+    /**
+     * Marks rotation to be calculated and
+     * sent again in next update. It must be
+     * called when NPC location is sent again
+     * or look target is changed.
+     */
+    public synchronized void markDirty() {
+        this.dirty = true;
+        this.rotation = -1;
+        this.rotations.clear();
+    }
+
+    /**
+     * Forgets rotations sent to players,
+     * so they get rotation in next update.
+     *
+     * @param players Players.
+     */
+    public synchronized void forget(@Nonnull List<Player> players) {
+        Validate.notNull(players, "players cannot be null!");
+        players.forEach(player -> this.rotations.remove(player.getUniqueId()));
+    }
+
+    /**
+     * Updates rotation of NPC if its
+     * interval is reached.
+     *
+     * @param tick Current tick of NPC loop.
+     */
+    public synchronized void update(long tick) {
+        if (this.interval > 1 && Math.floorMod(tick + this.npc.getID().hashCode(), (long) this.interval) != 0)
+            return;
+
+        List<Player> players = this.npc.getRenderer().getShownPlayers();
+        switch (this.npc.getLookTarget()) {
+            case NEAREST:
+                this.updateNearest(players);
+                break;
+            case INDIVIDUAL:
+                this.updateIndividual(players);
+                break;
+            default:
+                this.rotations.clear();
+                break;
+        }
+
+        this.dirty = false;
+        this.lastUpdate = tick;
+        this.lastViewers = players.size();
+    }
+
+    /**
+     * Looks at the nearest player.
+     *
+     * @param players Shown players.
+     */
+    private void updateNearest(@Nonnull List<Player> players) {
+        if (!this.dirty && players.size() == this.lastViewers && !this.hasMoved(players))
+            return;
+
+        Player nearestPlayer = NpcUtils.getNearestPlayer(this.npc);
+        if (nearestPlayer == null)
+            return;
+
+        double[] angles = NpcUtils.calculateVector(this.npc.getLocation().add(0, 1.62, 0), nearestPlayer.getEyeLocation());
+        int rotation = NpcLook.quantize((float) angles[0], (float) angles[1]);
+        if (rotation == this.rotation)
+            return;
+
+        this.rotation = rotation;
+        this.npc.setHeadRotation(angles[0], angles[1]);
+    }
+
+    /**
+     * Looks at every player individually.
+     *
+     * @param players Shown players.
+     */
+    private void updateIndividual(@Nonnull List<Player> players) {
+        Location npcLocation = this.npc.getLocation().add(0, 1.62, 0);
+
+        for (Player player : players) {
+            UUID uid = player.getUniqueId();
+            Integer sent = this.rotations.get(uid);
+            if (!this.dirty && sent != null && NpcHandler.getLastMove(uid) < this.lastUpdate)
+                continue;
+
+            double[] angles = NpcUtils.calculateVector(npcLocation, player.getEyeLocation());
+            int rotation = NpcLook.quantize((float) angles[0], (float) angles[1]);
+            if (sent != null && sent == rotation)
+                continue;
+
+            this.rotations.put(uid, rotation);
+
+            Location location = this.npc.getLocation();
+            location.setYaw((float) angles[0]);
+            location.setPitch((float) angles[1]);
+            this.npc.getRenderer().setLocation(location);
+            this.npc.getEntity().updateHeadRotation(Collections.singletonList(player));
+        }
+
+        if (this.rotations.size() > players.size()) {
+            Set<UUID> shown = new HashSet<>();
+            players.forEach(player -> shown.add(player.getUniqueId()));
+            this.rotations.keySet().retainAll(shown);
+        }
+    }
+
+    /**
+     * Checks if any player moved
+     * after last update.
+     *
+     * @param players Players.
+     * @return If any player moved, returns true.
+     */
+    private boolean hasMoved(@Nonnull List<Player> players) {
+        for (Player player : players) {
+            if (NpcHandler.getLastMove(player.getUniqueId()) >= this.lastUpdate)
+                return true;
+        }
+        return false;
+    }
+}
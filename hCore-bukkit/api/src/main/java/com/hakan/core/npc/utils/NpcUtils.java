@@ -41,10 +41,16 @@ public static Player getNearestPlayer(@Nonnull Npc npc) {
         Validate.notNull(npc, "npc cannot be null!");
 
         Player nearestPlayer = null;
+        Location location = npc.getLocation();
 
         double distance = Double.MAX_VALUE;
         for (Player player : npc.getRenderer().getShownPlayers()) {
-            double currentDistance = player.getLocation().distance(npc.getLocation());
+            Location playerLocation = player.getLocation();
+            double x = playerLocation.getX() - location.getX();
+            double y = playerLocation.getY() - location.getY();
+            double z = playerLocation.getZ() - location.getZ();
+
+            double currentDistance = x * x + y * y + z * z;
             if (currentDistance < distance) {
                 distance = currentDistance;
                 nearestPlayer = player;
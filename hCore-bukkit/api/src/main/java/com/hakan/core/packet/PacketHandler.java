@@ -1,8 +1,14 @@
 package com.hakan.core.packet;
 
 import com.hakan.core.HCore;
+import com.hakan.core.packet.batch.PacketBatch;
+import com.hakan.core.packet.event.PacketEvent;
+import com.hakan.core.packet.listener.PacketListener;
+import com.hakan.core.packet.listener.PacketPipeline;
 import com.hakan.core.packet.player.PacketPlayer;
+import com.hakan.core.packet.utils.PacketUtils;
 import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.Registry;
 import com.hakan.core.utils.Validate;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventPriority;
@@ -10,18 +16,22 @@
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * PacketHandler class.
  */
 public final class PacketHandler {
 
-    private static final Map<Player, PacketPlayer> packetPlayers = new HashMap<>();
+    private static final Registry<Player, PacketPlayer> packetPlayers = new Registry<>();
+    private static final PacketPipeline readPipeline = new PacketPipeline();
+    private static final PacketPipeline writePipeline = new PacketPipeline();
+    private static final Set<PacketPlayer> pending = ConcurrentHashMap.newKeySet();
+    private static volatile boolean batching = false;
 
     /**
      * Initializes the packet system.
@@ -33,6 +43,10 @@ public static void initialize() {
         HCore.registerEvent(PlayerQuitEvent.class)
                 .priority(EventPriority.LOWEST)
                 .consume(event -> PacketHandler.unregister(event.getPlayer()));
+
+        HCore.asyncScheduler().every(1)
+                .freezeIf((task) -> pending.isEmpty())
+                .run(PacketHandler::flush);
     }
 
 
@@ -43,7 +57,7 @@ public static void initialize() {
      */
     @Nonnull
     public static Map<Player, PacketPlayer> getContentSafe() {
-        return new HashMap<>(packetPlayers);
+        return packetPlayers.copy();
     }
 
     /**
@@ -63,7 +77,7 @@ public static Map<Player, PacketPlayer> getContent() {
      */
     @Nonnull
     public static Collection<PacketPlayer> getValuesSafe() {
-        return new ArrayList<>(packetPlayers.values());
+        return packetPlayers.copyValues();
     }
 
     /**
@@ -120,6 +134,144 @@ public static void register(@Nonnull Player player) {
     public static void unregister(@Nonnull Player player) {
         Validate.notNull(player, "player cannot be null!");
         PacketPlayer packetPlayer = packetPlayers.remove(player);
-        if (packetPlayer != null) packetPlayer.unregister();
+        if (packetPlayer != null) {
+            pending.remove(packetPlayer);
+            packetPlayer.unregister();
+        }
+    }
+
+    /**
+     * Checks if batching mode is enabled.
+     *
+     * @return If batching mode is enabled, returns true.
+     */
+    public static boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Sets batching mode. When it is enabled,
+     * packets are queued per player and
+     * flushed once at the end of the tick.
+     *
+     * @param batching Batching mode.
+     */
+    public static void setBatching(boolean batching) {
+        PacketHandler.batching = batching;
+        if (!batching) PacketHandler.flush();
+    }
+
+    /**
+     * Opens a packet batch for current thread.
+     * Packets sent until batch is closed are
+     * flushed once per player.
+     *
+     * @return Packet batch.
+     */
+    @Nonnull
+    public static PacketBatch batch() {
+        return PacketBatch.open();
+    }
+
+    /**
+     * Sends packets to player. Packets are
+     * queued if there is an open batch or
+     * batching mode is enabled.
+     *
+     * @param player  Player.
+     * @param packets Packets.
+     */
+    public static void send(@Nonnull Player player, @Nonnull Object... packets) {
+        Validate.notNull(player, "player cannot be null!");
+        Validate.notNull(packets, "packets cannot be null!");
+
+        PacketPlayer packetPlayer = packetPlayers.get(player);
+        if (packetPlayer == null)
+            return;
+
+        PacketBatch batch = PacketBatch.findCurrent().orElse(null);
+        if (batch != null) {
+            batch.queue(packetPlayer, packets);
+        } else if (batching) {
+            packetPlayer.queue(packets);
+            pending.add(packetPlayer);
+        } else if (packetPlayer.hasQueued()) {
+            packetPlayer.queue(packets);
+            packetPlayer.flush();
+        } else {
+            packetPlayer.send(packets);
+        }
+    }
+
+    /**
+     * Flushes queued packets of
+     * all pending players.
+     */
+    public static void flush() {
+        for (PacketPlayer packetPlayer : pending) {
+            if (pending.remove(packetPlayer))
+                packetPlayer.flush();
+        }
+    }
+
+    /**
+     * Registers packet listener.
+     *
+     * @param type       Packet type.
+     * @param packetName Simple class name of packet.
+     * @param listener   Listener.
+     */
+    public static void registerListener(@Nonnull PacketEvent.Type type, @Nonnull String packetName, @Nonnull PacketListener listener) {
+        PacketHandler.getPipeline(type).register(packetName, listener);
+    }
+
+    /**
+     * Unregisters packet listener.
+     *
+     * @param type       Packet type.
+     * @param packetName Simple class name of packet.
+     * @param listener   Listener.
+     * @return If listener is unregistered, returns true.
+     */
+    public static boolean unregisterListener(@Nonnull PacketEvent.Type type, @Nonnull String packetName, @Nonnull PacketListener listener) {
+        return PacketHandler.getPipeline(type).unregister(packetName, listener);
+    }
+
+    /**
+     * Handles packet of player. Packet event
+     * is only created if there is a packet
+     * listener for the packet class or a
+     * bukkit listener for packet event.
+     *
+     * @param player Player.
+     * @param packet Packet.
+     * @param type   Packet type.
+     * @return If packet should be passed, returns true.
+     */
+    public static boolean handle(@Nonnull Player player, @Nonnull Object packet, @Nonnull PacketEvent.Type type) {
+        PacketListener[] listeners = PacketHandler.getPipeline(type).get(packet.getClass());
+        boolean hasBukkitListeners = PacketEvent.getHandlerList().getRegisteredListeners().length > 0;
+        if (listeners.length == 0 && !hasBukkitListeners)
+            return true;
+
+        PacketEvent event = new PacketEvent(player, packet, type);
+        for (PacketListener listener : listeners)
+            listener.onPacket(event);
+        if (hasBukkitListeners)
+            PacketUtils.callEvent(event);
+
+        return !event.isCancelled();
+    }
+
+    /**
+     * Gets pipeline of packet type.
+     *
+     * @param type Packet type.
+     * @return Pipeline.
+     */
+    @Nonnull
+    private static PacketPipeline getPipeline(@Nonnull PacketEvent.Type type) {
+        Validate.notNull(type, "packet type cannot be null!");
+        return (type == PacketEvent.Type.READ) ? readPipeline : writePipeline;
     }
 }
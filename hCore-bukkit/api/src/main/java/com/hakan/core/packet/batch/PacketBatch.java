@@ -0,0 +1,94 @@
+package com.hakan.core.packet.batch;
+
+import com.hakan.core.packet.player.PacketPlayer;
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * PacketBatch class to queue packets
+ * sent from current thread and flush
+ * them once when batch is closed.
+ * Batches can be nested, only the
+ * outermost one flushes.
+ * <p>
+ * Usage:
+ * <pre>
+ * try (PacketBatch batch = PacketHandler.batch()) {
+ *     holograms.forEach(Hologram::show);
+ * }
+ * </pre>
+ */
+public final class PacketBatch implements AutoCloseable {
+
+    private static final ThreadLocal<PacketBatch> current = new ThreadLocal<>();
+
+    /**
+     * Finds open batch of current thread.
+     *
+     * @return Packet batch as optional.
+     */
+    @Nonnull
+    public static Optional<PacketBatch> findCurrent() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * Opens a batch for current thread or
+     * joins the one that is already open.
+     *
+     * @return Packet batch.
+     */
+    @Nonnull
+    public static PacketBatch open() {
+        PacketBatch batch = current.get();
+        if (batch == null) {
+            batch = new PacketBatch();
+            current.set(batch);
+        }
+
+        batch.depth++;
+        return batch;
+    }
+
+
+    private final Set<PacketPlayer> players;
+    private int depth;
+
+    /**
+     * Creates new instance of this class.
+     */
+    private PacketBatch() {
+        this.players = new LinkedHashSet<>();
+    }
+
+    /**
+     * Queues packets of player.
+     *
+     * @param packetPlayer Packet player.
+     * @param packets      Packets.
+     */
+    public void queue(@Nonnull PacketPlayer packetPlayer, @Nonnull Object... packets) {
+        Validate.notNull(packetPlayer, "packet player cannot be null!");
+        packetPlayer.queue(packets);
+        this.players.add(packetPlayer);
+    }
+
+    /**
+     * Closes batch. If this is the
+     * outermost batch, flushes queued
+     * packets of all players.
+     */
+    @Override
+    public void close() {
+        if (--this.depth > 0)
+            return;
+
+        current.remove();
+        this.players.forEach(PacketPlayer::flush);
+        this.players.clear();
+    }
+}
@@ -0,0 +1,26 @@
+package com.hakan.core.packet.listener;
+
+import com.hakan.core.packet.event.PacketEvent;
+
+import javax.annotation.Nonnull;
+
+/**
+ * PacketListener interface to listen
+ * packets of a specific class without
+ * going through bukkit event system.
+ * <p>
+ * Listeners are called from netty
+ * threads, so they must not touch
+ * bukkit api directly.
+ */
+@FunctionalInterface
+public interface PacketListener {
+
+    /**
+     * Called when a listened packet
+     * is received or sent.
+     *
+     * @param event PacketEvent.
+     */
+    void onPacket(@Nonnull PacketEvent event);
+}
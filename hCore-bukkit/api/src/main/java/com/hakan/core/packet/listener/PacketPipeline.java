@@ -0,0 +1,108 @@
+package com.hakan.core.packet.listener;
+
+import com.hakan.core.utils.Registry;
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * PacketPipeline class to keep packet
+ * listeners of a packet type. Listeners
+ * are registered by simple class name of
+ * packet and resolved once per packet class.
+ */
+public final class PacketPipeline {
+
+    private static final PacketListener[] EMPTY = new PacketListener[0];
+
+
+    private final Registry<String, List<PacketListener>> listeners;
+    private final Registry<Class<?>, PacketListener[]> resolved;
+
+    /**
+     * Creates new instance of this class.
+     */
+    public PacketPipeline() {
+        this.listeners = new Registry<>();
+        this.resolved = new Registry<>();
+    }
+
+    /**
+     * Checks if pipeline has no listener.
+     *
+     * @return If pipeline is empty, returns true.
+     */
+    public boolean isEmpty() {
+        return this.listeners.isEmpty();
+    }
+
+    /**
+     * Registers listener for packet.
+     *
+     * @param packetName Simple class name of packet.
+     * @param listener   Listener.
+     */
+    public synchronized void register(@Nonnull String packetName, @Nonnull PacketListener listener) {
+        Validate.notNull(packetName, "packet name cannot be null!");
+        Validate.notNull(listener, "listener cannot be null!");
+
+        this.listeners.computeIfAbsent(packetName, name -> new CopyOnWriteArrayList<>()).add(listener);
+        this.resolved.clear();
+    }
+
+    /**
+     * Unregisters listener from packet.
+     *
+     * @param packetName Simple class name of packet.
+     * @param listener   Listener.
+     * @return If listener is unregistered, returns true.
+     */
+    public synchronized boolean unregister(@Nonnull String packetName, @Nonnull PacketListener listener) {
+        Validate.notNull(packetName, "packet name cannot be null!");
+        Validate.notNull(listener, "listener cannot be null!");
+
+        List<PacketListener> list = this.listeners.get(packetName);
+        if (list == null || !list.remove(listener))
+            return false;
+
+        if (list.isEmpty())
+            this.listeners.remove(packetName);
+        this.resolved.clear();
+        return true;
+    }
+
+    /**
+     * Gets listeners of packet class.
+     * Result is cached per class, so
+     * hot path is a single map lookup.
+     *
+     * @param packetClass Packet class.
+     * @return Listeners.
+     */
+    @Nonnull
+    public PacketListener[] get(@Nonnull Class<?> packetClass) {
+        if (this.listeners.isEmpty())
+            return EMPTY;
+
+        PacketListener[] cached = this.resolved.get(packetClass);
+        return (cached != null) ? cached : this.resolve(packetClass);
+    }
+
+    /**
+     * Resolves listeners of packet class
+     * and caches them.
+     *
+     * @param packetClass Packet class.
+     * @return Listeners.
+     */
+    @Nonnull
+    private synchronized PacketListener[] resolve(@Nonnull Class<?> packetClass) {
+        return this.resolved.computeIfAbsent(packetClass, clazz -> {
+            List<PacketListener> list = this.listeners.get(clazz.getSimpleName());
+            return (list == null) ? EMPTY : new ArrayList<>(list).toArray(EMPTY);
+        });
+    }
+}
@@ -1,10 +1,15 @@
 package com.hakan.core.packet.player;
 
 import com.hakan.core.utils.Validate;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelPipeline;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * PacketPlayer class to send
@@ -16,6 +21,7 @@ public abstract class PacketPlayer {
 
 
     protected final Player player;
+    private final Queue<Object> queue;
     protected ChannelPipeline pipeline;
 
     /**
@@ -25,6 +31,7 @@ public abstract class PacketPlayer {
      */
     public PacketPlayer(@Nonnull Player player) {
         this.player = Validate.notNull(player, "player cannot be null!");
+        this.queue = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -48,6 +55,98 @@ public final ChannelPipeline getPipeline() {
     }
 
 
+    /**
+     * Checks if player has queued packets.
+     *
+     * @return If player has queued packets, returns true.
+     */
+    public final boolean hasQueued() {
+        return !this.queue.isEmpty();
+    }
+
+    /**
+     * Queues packets to send them
+     * with next flush.
+     *
+     * @param packets Packets.
+     */
+    public final void queue(@Nonnull Object... packets) {
+        Validate.notNull(packets, "packets cannot be null!");
+        for (Object packet : packets)
+            this.queue.add(Validate.notNull(packet, "packet cannot be null!"));
+    }
+
+    /**
+     * Sends all queued packets with
+     * a single flush. Packets are sent
+     * as bundle if server supports it.
+     */
+    public final synchronized void flush() {
+        if (this.queue.isEmpty())
+            return;
+
+        List<Object> packets = new ArrayList<>(this.queue.size());
+        Object packet;
+        while ((packet = this.queue.poll()) != null)
+            packets.add(packet);
+
+        if (this.player.isOnline())
+            this.writeBundle(packets);
+    }
+
+    /**
+     * Writes packets to channel and flushes
+     * it once at the end. It is only used
+     * for batches, other packets are sent
+     * through connection of player. If the
+     * channel is not active, packets are
+     * sent through connection, so it can
+     * queue them as it does normally.
+     * <p>
+     * Servers older than 1.19.4 use this,
+     * and their channels are always in play
+     * state once player is online.
+     *
+     * @param packets Packets.
+     */
+    protected void write(@Nonnull List<Object> packets) {
+        Validate.notNull(packets, "packets cannot be null!");
+
+        Channel channel = (this.pipeline != null) ?
+                this.pipeline.channel() :
+                null;
+        if (channel == null || !channel.isActive()) {
+            this.send(packets.toArray());
+            return;
+        }
+
+        if (channel.eventLoop().inEventLoop()) {
+            packets.forEach(channel::write);
+            channel.flush();
+        } else {
+            channel.eventLoop().execute(() -> {
+                packets.forEach(channel::write);
+                channel.flush();
+            });
+        }
+    }
+
+    /**
+     * Writes packets as bundle, so client
+     * handles them in the same tick. Bundled
+     * packets are seen as a single packet by
+     * write listeners.
+     * <p>
+     * Servers older than 1.19.4 do not
+     * support bundles, so packets are
+     * just written with a single flush.
+     *
+     * @param packets Packets.
+     */
+    protected void writeBundle(@Nonnull List<Object> packets) {
+        this.write(packets);
+    }
+
     /**
      * Sends packet to player.
      *
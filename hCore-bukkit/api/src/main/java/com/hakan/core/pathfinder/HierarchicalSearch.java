@@ -0,0 +1,398 @@
+package com.hakan.core.pathfinder;
+
+import com.hakan.core.pathfinder.access.BlockAccess;
+import com.hakan.core.utils.LongMap;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * HierarchicalSearch class to find long paths
+ * on flat terrain with HPA*. Every chunk is a
+ * cluster and the middle of every open run on
+ * its borders is an entrance. Entrances of a
+ * chunk are connected by searching inside the
+ * chunk only, so the abstract search tests a
+ * few entrances per chunk instead of every
+ * block. Found route is refined inside chunks.
+ */
+final class HierarchicalSearch {
+
+    private static final int REGION_MARGIN = 2;
+    private static final int[][] DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    /**
+     * Packs block coordinates into a long key.
+     *
+     * @param x Block x.
+     * @param z Block z.
+     * @return Key.
+     */
+    private static long toKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+
+    private final BlockAccess access;
+    private final Location start;
+    private final World world;
+    private final int y;
+    private final int endX;
+    private final int endZ;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int maxChunkX;
+    private final int maxChunkZ;
+    private final int maxNodeTests;
+
+    private final LongMap<boolean[]> grids;
+    private final LongMap<int[]> entrances;
+    private final int[] distances;
+    private final int[] previous;
+    private final int[] queue;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param access       Block access to read blocks.
+     * @param start        Start location.
+     * @param end          End location.
+     * @param maxNodeTests Maximum number of entrances to test.
+     */
+    HierarchicalSearch(@Nonnull BlockAccess access, @Nonnull Location start, @Nonnull Location end, int maxNodeTests) {
+        this.access = access;
+        this.start = start;
+        this.world = start.getWorld();
+        this.y = start.getBlockY();
+        this.endX = end.getBlockX();
+        this.endZ = end.getBlockZ();
+        this.minChunkX = (Math.min(start.getBlockX(), this.endX) >> 4) - REGION_MARGIN;
+        this.minChunkZ = (Math.min(start.getBlockZ(), this.endZ) >> 4) - REGION_MARGIN;
+        this.maxChunkX = (Math.max(start.getBlockX(), this.endX) >> 4) + REGION_MARGIN;
+        this.maxChunkZ = (Math.max(start.getBlockZ(), this.endZ) >> 4) + REGION_MARGIN;
+        this.maxNodeTests = maxNodeTests;
+
+        this.grids = new LongMap<>(64);
+        this.entrances = new LongMap<>(64);
+        this.distances = new int[256];
+        this.previous = new int[256];
+        this.queue = new int[256];
+    }
+
+    /**
+     * Finds locations of nodes from start
+     * to end. First location is the start
+     * location, others are block locations.
+     *
+     * @return Locations of nodes, or null if
+     * there is no flat path between entrances.
+     */
+    @Nullable
+    Location[] findNodes() {
+        LongMap<Entrance> nodes = new LongMap<>(64);
+        PriorityQueue<Entrance> open = new PriorityQueue<>();
+
+        int startX = this.start.getBlockX(), startZ = this.start.getBlockZ();
+        Entrance first = new Entrance(startX, startZ, 0, this.heuristic(startX, startZ), null);
+        nodes.put(HierarchicalSearch.toKey(startX, startZ), first);
+        open.add(first);
+
+        int tests = 0;
+        while (!open.isEmpty() && tests < this.maxNodeTests) {
+            Entrance node = open.poll();
+            if (node.closed || nodes.get(HierarchicalSearch.toKey(node.x, node.z)) != node)
+                continue;
+            if (node.x == this.endX && node.z == this.endZ)
+                return this.refine(node);
+
+            node.closed = true;
+            tests++;
+
+            int chunkX = node.x >> 4, chunkZ = node.z >> 4;
+            this.search(chunkX, chunkZ, node.x, node.z);
+
+            if ((this.endX >> 4) == chunkX && (this.endZ >> 4) == chunkZ) {
+                int distance = this.distances[HierarchicalSearch.index(this.endX, this.endZ)];
+                if (distance >= 0)
+                    this.relax(nodes, open, node, this.endX, this.endZ, node.cost + distance);
+            }
+
+            int[] chunkEntrances = this.getEntrances(chunkX, chunkZ);
+            for (int i = 0; i < chunkEntrances.length; i += 4) {
+                int insideX = chunkEntrances[i], insideZ = chunkEntrances[i + 1];
+                if (insideX == node.x && insideZ == node.z) {
+                    this.relax(nodes, open, node, chunkEntrances[i + 2], chunkEntrances[i + 3], node.cost + 1);
+                    continue;
+                }
+
+                int distance = this.distances[HierarchicalSearch.index(insideX, insideZ)];
+                if (distance >= 0)
+                    this.relax(nodes, open, node, insideX, insideZ, node.cost + distance);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Opens entrance with given cost if it
+     * is cheaper than known way to it.
+     *
+     * @param nodes  Known entrances.
+     * @param open   Open set.
+     * @param parent Parent entrance.
+     * @param x      Block x.
+     * @param z      Block z.
+     * @param cost   Cost from start.
+     */
+    private void relax(@Nonnull LongMap<Entrance> nodes,
+                       @Nonnull PriorityQueue<Entrance> open,
+                       @Nonnull Entrance parent,
+                       int x, int z, int cost) {
+        long key = HierarchicalSearch.toKey(x, z);
+        Entrance node = nodes.get(key);
+        if (node != null && (node.closed || cost >= node.cost))
+            return;
+
+        node = new Entrance(x, z, cost, cost + this.heuristic(x, z), parent);
+        nodes.put(key, node);
+        open.add(node);
+    }
+
+    /**
+     * Refines route of entrances into
+     * locations of every block.
+     *
+     * @param end Last entrance.
+     * @return Locations of nodes.
+     */
+    @Nonnull
+    private Location[] refine(@Nonnull Entrance end) {
+        List<Entrance> route = new ArrayList<>();
+        for (Entrance node = end; node != null; node = node.parent)
+            route.add(0, node);
+
+        List<Location> locations = new ArrayList<>(end.cost + 1);
+        locations.add(this.start);
+
+        for (int i = 1; i < route.size(); i++) {
+            Entrance from = route.get(i - 1), to = route.get(i);
+            int chunkX = from.x >> 4, chunkZ = from.z >> 4;
+
+            if ((to.x >> 4) != chunkX || (to.z >> 4) != chunkZ) {
+                locations.add(new Location(this.world, to.x, this.y, to.z));
+                continue;
+            }
+
+            this.search(chunkX, chunkZ, from.x, from.z);
+
+            int offset = locations.size();
+            for (int index = HierarchicalSearch.index(to.x, to.z); this.distances[index] > 0; index = this.previous[index])
+                locations.add(offset, new Location(this.world, (chunkX << 4) + (index >> 4), this.y, (chunkZ << 4) + (index & 15)));
+        }
+
+        return locations.toArray(new Location[0]);
+    }
+
+    /**
+     * Searches walkable blocks of chunk from
+     * given block with breadth first search.
+     * Distances and previous blocks are written
+     * into arrays of this class, unreachable
+     * blocks have distance of -1.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @param x      Block x.
+     * @param z      Block z.
+     */
+    private void search(int chunkX, int chunkZ, int x, int z) {
+        boolean[] grid = this.getGrid(chunkX, chunkZ);
+        Arrays.fill(this.distances, -1);
+
+        int source = HierarchicalSearch.index(x, z);
+        this.distances[source] = 0;
+        this.queue[0] = source;
+
+        int head = 0, tail = 1;
+        while (head < tail) {
+            int index = this.queue[head++];
+            int localX = index >> 4, localZ = index & 15;
+
+            for (int[] direction : DIRECTIONS) {
+                int nx = localX + direction[0], nz = localZ + direction[1];
+                if (nx < 0 || nx > 15 || nz < 0 || nz > 15)
+                    continue;
+
+                int next = (nx << 4) | nz;
+                if (!grid[next] || this.distances[next] != -1)
+                    continue;
+
+                this.distances[next] = this.distances[index] + 1;
+                this.previous[next] = index;
+                this.queue[tail++] = next;
+            }
+        }
+    }
+
+    /**
+     * Gets walkable blocks of chunk.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Walkable blocks by index.
+     */
+    @Nonnull
+    private boolean[] getGrid(int chunkX, int chunkZ) {
+        long key = HierarchicalSearch.toKey(chunkX, chunkZ);
+        boolean[] grid = this.grids.get(key);
+        if (grid != null)
+            return grid;
+
+        grid = new boolean[256];
+        for (int index = 0; index < 256; index++)
+            grid[index] = this.isWalkable((chunkX << 4) + (index >> 4), (chunkZ << 4) + (index & 15));
+
+        this.grids.put(key, grid);
+        return grid;
+    }
+
+    /**
+     * Gets entrances of chunk. Every entrance
+     * is kept as four values, inside x, inside z,
+     * outside x and outside z. Entrances to chunks
+     * out of search region are not included.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Entrances.
+     */
+    @Nonnull
+    private int[] getEntrances(int chunkX, int chunkZ) {
+        long key = HierarchicalSearch.toKey(chunkX, chunkZ);
+        int[] cached = this.entrances.get(key);
+        if (cached != null)
+            return cached;
+
+        List<Integer> values = new ArrayList<>();
+        for (int[] direction : DIRECTIONS) {
+            int dx = direction[0], dz = direction[1];
+            int neighbourX = chunkX + dx, neighbourZ = chunkZ + dz;
+            if (neighbourX < this.minChunkX || neighbourX > this.maxChunkX || neighbourZ < this.minChunkZ || neighbourZ > this.maxChunkZ)
+                continue;
+
+            boolean[] inside = this.getGrid(chunkX, chunkZ);
+            boolean[] outside = this.getGrid(neighbourX, neighbourZ);
+
+            int runStart = -1;
+            for (int offset = 0; offset <= 16; offset++) {
+                boolean open = false;
+                if (offset < 16) {
+                    int insideIndex = (dx != 0) ? (((dx > 0) ? 15 : 0) << 4) | offset : (offset << 4) | ((dz > 0) ? 15 : 0);
+                    int outsideIndex = (dx != 0) ? (((dx > 0) ? 0 : 15) << 4) | offset : (offset << 4) | ((dz > 0) ? 0 : 15);
+                    open = inside[insideIndex] && outside[outsideIndex];
+                }
+
+                if (open && runStart == -1) {
+                    runStart = offset;
+                } else if (!open && runStart != -1) {
+                    int middle = (runStart + offset - 1) / 2;
+                    int insideX = (dx != 0) ? (chunkX << 4) + ((dx > 0) ? 15 : 0) : (chunkX << 4) + middle;
+                    int insideZ = (dx != 0) ? (chunkZ << 4) + middle : (chunkZ << 4) + ((dz > 0) ? 15 : 0);
+                    values.addAll(Arrays.asList(insideX, insideZ, insideX + dx, insideZ + dz));
+                    runStart = -1;
+                }
+            }
+        }
+
+        int[] chunkEntrances = new int[values.size()];
+        for (int i = 0; i < chunkEntrances.length; i++)
+            chunkEntrances[i] = values.get(i);
+
+        this.entrances.put(key, chunkEntrances);
+        return chunkEntrances;
+    }
+
+    /**
+     * Checks if pathfinder can stand
+     * at block in height of start.
+     *
+     * @param x Block x.
+     * @param z Block z.
+     * @return If block is walkable, returns true.
+     */
+    private boolean isWalkable(int x, int z) {
+        return this.access.isSolid(x, this.y - 1, z) &&
+                !this.access.isSolid(x, this.y, z) &&
+                !this.access.isSolid(x, this.y + 1, z);
+    }
+
+    /**
+     * Gets manhattan distance to end.
+     *
+     * @param x Block x.
+     * @param z Block z.
+     * @return Distance.
+     */
+    private int heuristic(int x, int z) {
+        return Math.abs(this.endX - x) + Math.abs(this.endZ - z);
+    }
+
+    /**
+     * Gets index of block in its chunk.
+     *
+     * @param x Block x.
+     * @param z Block z.
+     * @return Index.
+     */
+    private static int index(int x, int z) {
+        return ((x & 15) << 4) | (z & 15);
+    }
+
+
+    /**
+     * Entrance class to keep cost and parent
+     * of an entrance in abstract search. Start
+     * and end blocks are entrances as well.
+     */
+    private static final class Entrance implements Comparable<Entrance> {
+
+        private final int x;
+        private final int z;
+        private final int cost;
+        private final int estimated;
+        private final Entrance parent;
+        private boolean closed;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param x         Block x.
+         * @param z         Block z.
+         * @param cost      Cost from start.
+         * @param estimated Estimated total cost.
+         * @param parent    Parent entrance.
+         */
+        private Entrance(int x, int z, int cost, int estimated, @Nullable Entrance parent) {
+            this.x = x;
+            this.z = z;
+            this.cost = cost;
+            this.estimated = estimated;
+            this.parent = parent;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(@Nonnull Entrance entrance) {
+            return Integer.compare(this.estimated, entrance.estimated);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.hakan.core.pathfinder;
+
+import com.hakan.core.pathfinder.access.BlockAccess;
+import com.hakan.core.utils.LongMap;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * JumpPointSearch class to find a path on
+ * flat terrain with jump point search on
+ * 4-neighbour grid. Straight runs without
+ * forced neighbours are skipped, so only
+ * jump points are kept in open set.
+ * <p>
+ * Blocks are walkable if pathfinder can stand
+ * at them in height of start location. Search
+ * is limited to a region around start and end.
+ */
+final class JumpPointSearch {
+
+    private static final int REGION_MARGIN = 32;
+    private static final long NONE = Long.MIN_VALUE;
+
+    /**
+     * Packs grid coordinates into a long key.
+     *
+     * @param x Block x.
+     * @param z Block z.
+     * @return Key.
+     */
+    private static long toKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+
+    private final BlockAccess access;
+    private final Location start;
+    private final World world;
+    private final int y;
+    private final int endX;
+    private final int endZ;
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
+    private final int maxNodeTests;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param access       Block access to read blocks.
+     * @param start        Start location.
+     * @param end          End location.
+     * @param maxNodeTests Maximum number of jump points to test.
+     */
+    JumpPointSearch(@Nonnull BlockAccess access, @Nonnull Location start, @Nonnull Location end, int maxNodeTests) {
+        this.access = access;
+        this.start = start;
+        this.world = start.getWorld();
+        this.y = start.getBlockY();
+        this.endX = end.getBlockX();
+        this.endZ = end.getBlockZ();
+        this.minX = Math.min(start.getBlockX(), this.endX) - REGION_MARGIN;
+        this.minZ = Math.min(start.getBlockZ(), this.endZ) - REGION_MARGIN;
+        this.maxX = Math.max(start.getBlockX(), this.endX) + REGION_MARGIN;
+        this.maxZ = Math.max(start.getBlockZ(), this.endZ) + REGION_MARGIN;
+        this.maxNodeTests = maxNodeTests;
+    }
+
+    /**
+     * Finds locations of nodes from start
+     * to end. First location is the start
+     * location, others are block locations.
+     *
+     * @return Locations of nodes, or null if
+     * there is no flat path.
+     */
+    @Nullable
+    Location[] findNodes() {
+        int startX = this.start.getBlockX();
+        int startZ = this.start.getBlockZ();
+
+        LongMap<JumpPoint> points = new LongMap<>(64);
+        PriorityQueue<JumpPoint> open = new PriorityQueue<>();
+
+        JumpPoint first = new JumpPoint(startX, startZ, 0, this.heuristic(startX, startZ), null);
+        points.put(JumpPointSearch.toKey(startX, startZ), first);
+        open.add(first);
+
+        int tests = 0;
+        while (!open.isEmpty() && tests < this.maxNodeTests) {
+            JumpPoint point = open.poll();
+            if (point.closed || points.get(JumpPointSearch.toKey(point.x, point.z)) != point)
+                continue;
+            if (point.x == this.endX && point.z == this.endZ)
+                return this.toLocations(point);
+
+            point.closed = true;
+            tests++;
+
+            for (long neighbour : this.findNeighbours(point)) {
+                int nx = (int) (neighbour >> 32), nz = (int) neighbour;
+                long jump = this.jump(nx, nz, nx - point.x, nz - point.z);
+                if (jump == NONE)
+                    continue;
+
+                int jx = (int) (jump >> 32), jz = (int) jump;
+                int cost = point.cost + Math.abs(jx - point.x) + Math.abs(jz - point.z);
+
+                JumpPoint next = points.get(jump);
+                if (next != null && (next.closed || cost >= next.cost))
+                    continue;
+
+                next = new JumpPoint(jx, jz, cost, cost + this.heuristic(jx, jz), point);
+                points.put(jump, next);
+                open.add(next);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Finds neighbours of jump point. Neighbours
+     * that can be reached without passing jump
+     * point are pruned.
+     *
+     * @param point Jump point.
+     * @return Keys of neighbours.
+     */
+    @Nonnull
+    private List<Long> findNeighbours(@Nonnull JumpPoint point) {
+        List<Long> neighbours = new ArrayList<>(4);
+        int x = point.x, z = point.z;
+
+        if (point.parent == null) {
+            this.addIfWalkable(neighbours, x + 1, z);
+            this.addIfWalkable(neighbours, x - 1, z);
+            this.addIfWalkable(neighbours, x, z + 1);
+            this.addIfWalkable(neighbours, x, z - 1);
+            return neighbours;
+        }
+
+        int dx = Integer.signum(x - point.parent.x);
+        int dz = Integer.signum(z - point.parent.z);
+        if (dx != 0) {
+            this.addIfWalkable(neighbours, x, z - 1);
+            this.addIfWalkable(neighbours, x, z + 1);
+            this.addIfWalkable(neighbours, x + dx, z);
+        } else {
+            this.addIfWalkable(neighbours, x - 1, z);
+            this.addIfWalkable(neighbours, x + 1, z);
+            this.addIfWalkable(neighbours, x, z + dz);
+        }
+        return neighbours;
+    }
+
+    /**
+     * Adds block to list if it is walkable.
+     *
+     * @param neighbours Neighbour list.
+     * @param x          Block x.
+     * @param z          Block z.
+     */
+    private void addIfWalkable(@Nonnull List<Long> neighbours, int x, int z) {
+        if (this.isWalkable(x, z))
+            neighbours.add(JumpPointSearch.toKey(x, z));
+    }
+
+    /**
+     * Jumps from block in direction until a
+     * jump point, end or an obstacle is found.
+     * Horizontal jumps are checked at every
+     * block of vertical jumps.
+     *
+     * @param x  Block x.
+     * @param z  Block z.
+     * @param dx Direction x.
+     * @param dz Direction z.
+     * @return Key of jump point, or {@link #NONE}.
+     */
+    private long jump(int x, int z, int dx, int dz) {
+        while (true) {
+            if (!this.isWalkable(x, z))
+                return NONE;
+            if (x == this.endX && z == this.endZ)
+                return JumpPointSearch.toKey(x, z);
+
+            if (dx != 0) {
+                if ((this.isWalkable(x, z - 1) && !this.isWalkable(x - dx, z - 1)) ||
+                        (this.isWalkable(x, z + 1) && !this.isWalkable(x - dx, z + 1)))
+                    return JumpPointSearch.toKey(x, z);
+            } else {
+                if ((this.isWalkable(x - 1, z) && !this.isWalkable(x - 1, z - dz)) ||
+                        (this.isWalkable(x + 1, z) && !this.isWalkable(x + 1, z - dz)))
+                    return JumpPointSearch.toKey(x, z);
+                if (this.jump(x + 1, z, 1, 0) != NONE || this.jump(x - 1, z, -1, 0) != NONE)
+                    return JumpPointSearch.toKey(x, z);
+            }
+
+            x += dx;
+            z += dz;
+        }
+    }
+
+    /**
+     * Checks if pathfinder can stand
+     * at block in height of start.
+     *
+     * @param x Block x.
+     * @param z Block z.
+     * @return If block is walkable, returns true.
+     */
+    private boolean isWalkable(int x, int z) {
+        if (x < this.minX || x > this.maxX || z < this.minZ || z > this.maxZ)
+            return false;
+
+        return this.access.isSolid(x, this.y - 1, z) &&
+                !this.access.isSolid(x, this.y, z) &&
+                !this.access.isSolid(x, this.y + 1, z);
+    }
+
+    /**
+     * Gets manhattan distance to end.
+     *
+     * @param x Block x.
+     * @param z Block z.
+     * @return Distance.
+     */
+    private int heuristic(int x, int z) {
+        return Math.abs(this.endX - x) + Math.abs(this.endZ - z);
+    }
+
+    /**
+     * Expands jump points into locations
+     * of every block between them.
+     *
+     * @param end Last jump point.
+     * @return Locations of nodes.
+     */
+    @Nonnull
+    private Location[] toLocations(@Nonnull JumpPoint end) {
+        Location[] locations = new Location[end.cost + 1];
+        int index = end.cost;
+
+        for (JumpPoint point = end; point.parent != null; point = point.parent) {
+            int dx = Integer.signum(point.parent.x - point.x);
+            int dz = Integer.signum(point.parent.z - point.z);
+            for (int x = point.x, z = point.z; x != point.parent.x || z != point.parent.z; x += dx, z += dz)
+                locations[index--] = new Location(this.world, x, this.y, z);
+        }
+
+        locations[0] = this.start;
+        return locations;
+    }
+
+
+    /**
+     * JumpPoint class to keep cost and parent
+     * of a jump point. A cheaper way to same
+     * block replaces it with a new jump point,
+     * so queued ones are never modified.
+     */
+    private static final class JumpPoint implements Comparable<JumpPoint> {
+
+        private final int x;
+        private final int z;
+        private final int cost;
+        private final int estimated;
+        private final JumpPoint parent;
+        private boolean closed;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param x         Block x.
+         * @param z         Block z.
+         * @param cost      Cost from start.
+         * @param estimated Estimated total cost.
+         * @param parent    Parent jump point.
+         */
+        private JumpPoint(int x, int z, int cost, int estimated, @Nullable JumpPoint parent) {
+            this.x = x;
+            this.z = z;
+            this.cost = cost;
+            this.estimated = estimated;
+            this.parent = parent;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(@Nonnull JumpPoint point) {
+            return Integer.compare(this.estimated, point.estimated);
+        }
+    }
+}
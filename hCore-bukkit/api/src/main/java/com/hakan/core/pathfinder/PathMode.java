@@ -0,0 +1,33 @@
+package com.hakan.core.pathfinder;
+
+/**
+ * Search modes of pathfinder.
+ */
+public enum PathMode {
+
+    /**
+     * A* search over every block. It handles
+     * steps, falls and ladders, but it is
+     * limited by maximum node tests.
+     */
+    DEFAULT,
+
+    /**
+     * Jump point search on flat terrain. Only
+     * jump points are tested, so long straight
+     * walks cost a few node tests. If start and
+     * end are not at same height or there is
+     * no flat path, default search is used.
+     */
+    JUMP_POINT,
+
+    /**
+     * Hierarchical search on flat terrain. Route
+     * between entrances of chunks is found first,
+     * then it is refined inside every chunk. If
+     * start and end are not at same height or
+     * there is no flat route, default search
+     * is used.
+     */
+    HIERARCHICAL
+}
@@ -1,10 +1,11 @@
 package com.hakan.core.pathfinder;
 
-import org.bukkit.Bukkit;
+import com.hakan.core.pathfinder.access.BlockAccess;
+import com.hakan.core.pathfinder.access.WorldBlockAccess;
+import com.hakan.core.utils.LongMap;
 import org.bukkit.Location;
-import org.bukkit.Material;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Pathfinder class to find a
@@ -15,6 +16,49 @@
  */
 public class Pathfinder {
 
+    /**
+     * Packs block coordinates into a long key.
+     * X and Z use 26 bits, Y uses 12 bits.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Packed key.
+     */
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    /**
+     * Slices locations of nodes.
+     *
+     * @param locations Locations of nodes.
+     * @param slice     How much slices will
+     *                  be between two block.
+     * @return The paths.
+     */
+    public static Location[] slice(Location[] locations, int slice) {
+        Location[] lastLocations = new Location[locations.length * slice];
+        for (int i = 0; i < locations.length; i++) {
+            if (i == locations.length - 1)
+                break;
+
+            Location fromLocation = locations[i];
+            Location toLocation = locations[i + 1];
+
+            double disX = toLocation.getX() - fromLocation.getX();
+            double disY = toLocation.getY() - fromLocation.getY();
+            double disZ = toLocation.getZ() - fromLocation.getZ();
+
+            for (int j = 0; j < slice; j++) {
+                lastLocations[i * slice + j] = fromLocation.clone().add(disX * j / slice, disY * j / slice, disZ * j / slice);
+            }
+        }
+
+        return lastLocations;
+    }
+
+
     private final Location startLocation;
     private final Location endLocation;
 
@@ -22,25 +66,31 @@ public class Pathfinder {
     private final Node startNode;
 
     private boolean pathFound = false;
-    private final ArrayList<Node> checkedNodes = new ArrayList<>();
-    private final ArrayList<Node> uncheckedNodes = new ArrayList<>();
+    private int checkedNodes = 0;
+    private final LongMap<Node> nodes = new LongMap<>(256);
+    private final OpenSet uncheckedNodes = new OpenSet(64);
 
+    private final BlockAccess access;
     private final int maxNodeTests;
     private final boolean canClimbLadders;
     private final double maxFallDistance;
+    private final PathMode mode;
 
     /**
      * Pathfinder constructor.
      *
      * @param start           Start location.
      * @param end             End location.
+     * @param access          Block access to read blocks.
      * @param maxNodeTests    Maximum number of nodes to test.
      * @param canClimbLadders Whether the pathfinder can climb ladders.
      * @param maxFallDistance Maximum fall distance.
+     * @param mode            Search mode.
      */
-    public Pathfinder(Location start, Location end, int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+    public Pathfinder(Location start, Location end, BlockAccess access, int maxNodeTests, boolean canClimbLadders, double maxFallDistance, PathMode mode) {
         this.endLocation = end;
         this.startLocation = start;
+        this.access = access;
 
         this.endNode = new Node(this.endLocation, 0, null);
         this.startNode = new Node(this.startLocation, 0, null);
@@ -48,6 +98,52 @@ public Pathfinder(Location start, Location end, int maxNodeTests, boolean canCli
         this.maxNodeTests = maxNodeTests;
         this.canClimbLadders = canClimbLadders;
         this.maxFallDistance = maxFallDistance;
+        this.mode = mode;
+    }
+
+    /**
+     * Pathfinder constructor.
+     *
+     * @param start           Start location.
+     * @param end             End location.
+     * @param access          Block access to read blocks.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     */
+    public Pathfinder(Location start, Location end, BlockAccess access, int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        this(start, end, access, maxNodeTests, canClimbLadders, maxFallDistance, PathMode.DEFAULT);
+    }
+
+    /**
+     * Pathfinder constructor. Blocks are
+     * read from live world, so it must be
+     * used from main thread.
+     *
+     * @param start           Start location.
+     * @param end             End location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     */
+    public Pathfinder(Location start, Location end, int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        this(start, end, maxNodeTests, canClimbLadders, maxFallDistance, PathMode.DEFAULT);
+    }
+
+    /**
+     * Pathfinder constructor. Blocks are
+     * read from live world, so it must be
+     * used from main thread.
+     *
+     * @param start           Start location.
+     * @param end             End location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @param mode            Search mode.
+     */
+    public Pathfinder(Location start, Location end, int maxNodeTests, boolean canClimbLadders, double maxFallDistance, PathMode mode) {
+        this(start, end, new WorldBlockAccess(start.getWorld()), maxNodeTests, canClimbLadders, maxFallDistance, mode);
     }
 
     /**
@@ -77,16 +173,46 @@ public Location[] getPath() {
      * @return The paths.
      */
     public Location[] getPath(int slice) {
+        return Pathfinder.slice(this.findNodes(), slice);
+    }
+
+    /**
+     * Finds locations of nodes from start
+     * to end without slicing them. First
+     * location is the start location, others
+     * are block locations of nodes.
+     *
+     * @return Locations of nodes.
+     */
+    public Location[] findNodes() {
         if (!(this.canStandAt(this.startLocation) && this.canStandAt(this.endLocation)))
             return new Location[0];
 
+        boolean flat = this.startLocation.getBlockY() == this.endLocation.getBlockY();
+        if (flat && this.mode == PathMode.JUMP_POINT) {
+            Location[] locations = new JumpPointSearch(this.access, this.startLocation, this.endLocation, this.maxNodeTests).findNodes();
+            if (locations != null)
+                return locations;
+        } else if (flat && this.mode == PathMode.HIERARCHICAL) {
+            Location[] locations = new HierarchicalSearch(this.access, this.startLocation, this.endLocation, this.maxNodeTests).findNodes();
+            if (locations != null)
+                return locations;
+        }
+
+        return this.search();
+    }
+
+    /**
+     * Finds locations of nodes with A*.
+     *
+     * @return Locations of nodes.
+     */
+    private Location[] search() {
+        this.nodes.put(this.startNode.key, this.startNode);
         this.uncheckedNodes.add(this.startNode);
 
-        while (this.checkedNodes.size() < this.maxNodeTests && !this.pathFound && this.uncheckedNodes.size() > 0) {
-            Node n = this.uncheckedNodes.get(0);
-            for (Node nt : this.uncheckedNodes)
-                if (nt.getEstimatedFinalExpense() < n.getEstimatedFinalExpense())
-                    n = nt;
+        while (this.checkedNodes < this.maxNodeTests && !this.pathFound && !this.uncheckedNodes.isEmpty()) {
+            Node n = this.uncheckedNodes.poll();
 
             if (n.estimatedExpenseLeft < 1) {
                 this.pathFound = true;
@@ -94,9 +220,8 @@ public Location[] getPath(int slice) {
                 break;
             }
 
+            this.checkedNodes++;
             n.getReachableLocations();
-            this.uncheckedNodes.remove(n);
-            this.checkedNodes.add(n);
         }
 
         if (!this.pathFound)
@@ -119,24 +244,7 @@ public Location[] getPath(int slice) {
 
         locations[0] = this.startNode.getLocation();
 
-        Location[] lastLocations = new Location[locations.length * slice];
-        for (int i = 0; i < locations.length; i++) {
-            if (i == locations.length - 1)
-                break;
-
-            Location fromLocation = locations[i];
-            Location toLocation = locations[i + 1];
-
-            double disX = toLocation.getX() - fromLocation.getX();
-            double disY = toLocation.getY() - fromLocation.getY();
-            double disZ = toLocation.getZ() - fromLocation.getZ();
-
-            for (int j = 0; j < slice; j++) {
-                lastLocations[i * slice + j] = fromLocation.clone().add(disX * j / slice, disY * j / slice, disZ * j / slice);
-            }
-        }
-
-        return lastLocations;
+        return locations;
     }
 
     /**
@@ -146,11 +254,13 @@ public Location[] getPath(int slice) {
      * @return Node.
      */
     private Node getNode(Location loc) {
-        Node test = new Node(loc, 0, null);
-        for (Node n : this.checkedNodes)
-            if (n.id == test.id)
-                return n;
-        return test;
+        long key = pack(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+        Node node = this.nodes.get(key);
+        if (node == null) {
+            node = new Node(loc, 0, null);
+            this.nodes.put(key, node);
+        }
+        return node;
     }
 
 
@@ -161,7 +271,17 @@ private Node getNode(Location loc) {
      * @return Whether the location is obstructed.
      */
     private boolean isObstructed(Location loc) {
-        return loc.getBlock().getType().isSolid();
+        return this.access.isSolid(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    /**
+     * Returns whether the location is ladder.
+     *
+     * @param loc Location.
+     * @return Whether the location is ladder.
+     */
+    private boolean isLadder(Location loc) {
+        return this.access.isLadder(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
     }
 
     /**
@@ -199,12 +319,13 @@ private double distanceTo(Location loc1, Location loc2) {
      */
     private class Node {
 
-        public double id;
+        public final long key;
         public Node origin;
         public double expense;
+        public int heapIndex = -1;
 
         private final Location location;
-        private double estimatedExpenseLeft = -1;
+        private final double estimatedExpenseLeft;
 
         /**
          * Node constructor.
@@ -217,7 +338,8 @@ public Node(Location loc, double expense, Node origin) {
             this.location = loc;
             this.origin = origin;
             this.expense = expense;
-            this.id = loc.getBlockX() + 30000000d * loc.getBlockY() + 30000000d * 30000000d * loc.getBlockZ();
+            this.key = pack(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+            this.estimatedExpenseLeft = distanceTo(loc, endLocation);
         }
 
         /**
@@ -235,9 +357,6 @@ public Location getLocation() {
          * @return The estimated final expense.
          */
         public double getEstimatedFinalExpense() {
-            if (this.estimatedExpenseLeft == -1)
-                this.estimatedExpenseLeft = distanceTo(this.location, endLocation);
-
             return this.expense + 1.5 * this.estimatedExpenseLeft;
         }
 
@@ -248,7 +367,7 @@ public void getReachableLocations() {
             for (int x = -1; x <= 1; x++) {
                 for (int z = -1; z <= 1; z++) {
                     if (!(x == 0 && z == 0) && x * z == 0) {
-                        Location loc = new Location(Bukkit.getWorlds().get(0), this.location.getBlockX() + x, this.location.getBlockY(), this.location.getBlockZ() + z);
+                        Location loc = new Location(this.location.getWorld(), this.location.getBlockX() + x, this.location.getBlockY(), this.location.getBlockZ() + z);
 
                         if (canStandAt(loc))
                             reachNode(loc, expense + 1);
@@ -277,10 +396,10 @@ public void getReachableLocations() {
                         }
 
                         if (canClimbLadders) {
-                            if (loc.clone().add(-x, 0, -z).getBlock().getType() == Material.LADDER) {
+                            if (isLadder(loc.clone().add(-x, 0, -z))) {
                                 Location nLoc = loc.clone().add(-x, 0, -z);
                                 int up = 1;
-                                while (nLoc.clone().add(0, up, 0).getBlock().getType() == Material.LADDER) up++;
+                                while (isLadder(nLoc.clone().add(0, up, 0))) up++;
                                 reachNode(nLoc.clone().add(0, up, 0), expense + up * 2);
                             }
                         }
@@ -308,6 +427,8 @@ public void reachNode(Location locThere, double expenseThere) {
             if (nt.expense > expenseThere) {
                 nt.expense = expenseThere;
                 nt.origin = this;
+                if (nt.heapIndex != -1)
+                    uncheckedNodes.decreaseKey(nt);
             }
         }
 
@@ -322,4 +443,133 @@ public Node addFallNode(Location loc, double expense) {
             return new Node(loc, expense, this);
         }
     }
+
+
+
+    /**
+     * Indexed binary min-heap of unchecked nodes
+     * ordered by estimated final expense. Nodes
+     * keep their heap index, so decreasing their
+     * expense is O(log n) without searching.
+     */
+    private static final class OpenSet {
+
+        private Node[] heap;
+        private int size;
+
+        /**
+         * OpenSet constructor.
+         *
+         * @param capacity Initial capacity.
+         */
+        public OpenSet(int capacity) {
+            this.heap = new Node[capacity];
+        }
+
+        /**
+         * Checks if heap is empty.
+         *
+         * @return If heap is empty, returns true.
+         */
+        public boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        /**
+         * Adds node to heap.
+         *
+         * @param node Node.
+         */
+        public void add(Node node) {
+            if (this.size == this.heap.length)
+                this.heap = Arrays.copyOf(this.heap, this.size << 1);
+
+            node.heapIndex = this.size;
+            this.heap[this.size++] = node;
+            this.siftUp(node.heapIndex);
+        }
+
+        /**
+         * Removes and returns the cheapest node.
+         *
+         * @return Node.
+         */
+        public Node poll() {
+            Node top = this.heap[0];
+            Node last = this.heap[--this.size];
+            this.heap[this.size] = null;
+            top.heapIndex = -1;
+
+            if (this.size > 0) {
+                this.heap[0] = last;
+                last.heapIndex = 0;
+                this.siftDown(0);
+            }
+            return top;
+        }
+
+        /**
+         * Moves node up after its
+         * expense is decreased.
+         *
+         * @param node Node.
+         */
+        public void decreaseKey(Node node) {
+            this.siftUp(node.heapIndex);
+        }
+
+        /**
+         * Moves node at index up
+         * until heap order is restored.
+         *
+         * @param index Index.
+         */
+        private void siftUp(int index) {
+            Node node = this.heap[index];
+            double cost = node.getEstimatedFinalExpense();
+
+            while (index > 0) {
+                int parentIndex = (index - 1) >>> 1;
+                Node parent = this.heap[parentIndex];
+                if (parent.getEstimatedFinalExpense() <= cost)
+                    break;
+
+                this.heap[index] = parent;
+                parent.heapIndex = index;
+                index = parentIndex;
+            }
+
+            this.heap[index] = node;
+            node.heapIndex = index;
+        }
+
+        /**
+         * Moves node at index down
+         * until heap order is restored.
+         *
+         * @param index Index.
+         */
+        private void siftDown(int index) {
+            Node node = this.heap[index];
+            double cost = node.getEstimatedFinalExpense();
+            int half = this.size >>> 1;
+
+            while (index < half) {
+                int childIndex = (index << 1) + 1;
+                Node child = this.heap[childIndex];
+                int rightIndex = childIndex + 1;
+                if (rightIndex < this.size && this.heap[rightIndex].getEstimatedFinalExpense() < child.getEstimatedFinalExpense())
+                    child = this.heap[childIndex = rightIndex];
+                if (cost <= child.getEstimatedFinalExpense())
+                    break;
+
+                this.heap[index] = child;
+                child.heapIndex = index;
+                index = childIndex;
+            }
+
+            this.heap[index] = node;
+            node.heapIndex = index;
+        }
+    }
 }
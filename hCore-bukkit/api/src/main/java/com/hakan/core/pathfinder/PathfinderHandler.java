@@ -0,0 +1,420 @@
+package com.hakan.core.pathfinder;
+
+import com.hakan.core.HCore;
+import com.hakan.core.pathfinder.access.SnapshotBlockAccess;
+import com.hakan.core.pathfinder.cache.CachedPath;
+import com.hakan.core.pathfinder.cache.PathCache;
+import com.hakan.core.pathfinder.cache.PathKey;
+import com.hakan.core.pathfinder.graph.WaypointGraph;
+import com.hakan.core.pathfinder.walkability.WalkabilityCache;
+import com.hakan.core.utils.Registry;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPhysicsEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PathfinderHandler class to find paths
+ * asynchronously. Blocks of the corridor
+ * between start and end are captured as
+ * chunk snapshots on main thread, spread
+ * through ticks, and the search runs on
+ * a worker pool, so it never stalls the tick.
+ * <p>
+ * Walkability of blocks is cached per world
+ * and invalidated when blocks are placed,
+ * broken or updated by physics.
+ * <p>
+ * Found paths are kept in an LRU cache until
+ * blocks of their chunks change, and routes
+ * between waypoints of registered graphs are
+ * served without searching.
+ */
+public final class PathfinderHandler {
+
+    private static final int REGION_MARGIN = 32;
+    private static final int MAX_REGION_CHUNKS = 512;
+    private static final int SNAPSHOTS_PER_TICK = 32;
+
+    private static final Registry<UUID, WalkabilityCache> caches = new Registry<>();
+    private static final List<WaypointGraph> graphs = new CopyOnWriteArrayList<>();
+    private static final PathCache pathCache = new PathCache(512);
+    private static ExecutorService executor;
+    private static boolean listening;
+
+    /**
+     * Initializes the pathfinder system.
+     */
+    public static void initialize() {
+        PathfinderHandler.shutdown();
+
+        AtomicInteger counter = new AtomicInteger();
+        int threads = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2));
+
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "hCore-Pathfinder-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        HCore.registerEvent(ChunkUnloadEvent.class)
+                .consume(event -> caches.find(event.getWorld().getUID())
+                        .ifPresent(cache -> cache.invalidateChunk(event.getChunk().getX(), event.getChunk().getZ())));
+        HCore.registerEvent(WorldUnloadEvent.class)
+                .consume(event -> {
+                    caches.remove(event.getWorld().getUID());
+                    pathCache.clear(event.getWorld().getUID());
+                });
+        HCore.registerEvent(PluginDisableEvent.class)
+                .filter(event -> event.getPlugin().equals(HCore.getInstance()))
+                .consume(event -> PathfinderHandler.shutdown());
+    }
+
+    /**
+     * Registers block listeners to invalidate
+     * walkability caches. They are registered
+     * when the first cache is created, so
+     * servers that never search a path do
+     * not listen block physics.
+     */
+    private static synchronized void listenBlocks() {
+        if (listening)
+            return;
+        listening = true;
+
+        HCore.registerEvent(BlockPlaceEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.invalidate(event.getBlock()));
+        HCore.registerEvent(BlockBreakEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.invalidate(event.getBlock()));
+        HCore.registerEvent(BlockPhysicsEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.invalidate(event.getBlock()));
+    }
+
+    /**
+     * Shuts down pathfinder workers, so
+     * their threads do not keep plugin
+     * loaded after it is disabled.
+     */
+    public static synchronized void shutdown() {
+        if (executor != null)
+            executor.shutdownNow();
+        executor = null;
+    }
+
+    /**
+     * Gets executor of pathfinder workers.
+     *
+     * @return Executor.
+     */
+    @Nonnull
+    public static ExecutorService getExecutor() {
+        return Validate.notNull(executor, "pathfinder handler is not initialized!");
+    }
+
+    /**
+     * Gets cache of found paths.
+     *
+     * @return Path cache.
+     */
+    @Nonnull
+    public static PathCache getPathCache() {
+        return pathCache;
+    }
+
+    /**
+     * Registers waypoint graph, so its routes
+     * are used by path searches in its world.
+     *
+     * @param graph Waypoint graph.
+     */
+    public static void registerGraph(@Nonnull WaypointGraph graph) {
+        Validate.notNull(graph, "graph cannot be null!");
+        if (!graphs.contains(graph))
+            graphs.add(graph);
+    }
+
+    /**
+     * Unregisters waypoint graph.
+     *
+     * @param graph Waypoint graph.
+     */
+    public static void unregisterGraph(@Nonnull WaypointGraph graph) {
+        Validate.notNull(graph, "graph cannot be null!");
+        graphs.remove(graph);
+    }
+
+    /**
+     * Gets walkability cache of world.
+     * If it does not exist, creates it.
+     *
+     * @param world World.
+     * @return Walkability cache.
+     */
+    @Nonnull
+    public static WalkabilityCache getCache(@Nonnull World world) {
+        Validate.notNull(world, "world cannot be null!");
+        WalkabilityCache cache = caches.get(world.getUID());
+        if (cache != null)
+            return cache;
+
+        PathfinderHandler.listenBlocks();
+        return caches.computeIfAbsent(world.getUID(), uid -> new WalkabilityCache(world));
+    }
+
+    /**
+     * Invalidates walkability of block.
+     *
+     * @param block Block.
+     */
+    public static void invalidate(@Nonnull Block block) {
+        Validate.notNull(block, "block cannot be null!");
+        WalkabilityCache cache = caches.get(block.getWorld().getUID());
+        if (cache != null)
+            cache.invalidate(block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Finds path asynchronously.
+     *
+     * @param start Start location.
+     * @param end   End location.
+     * @param slice How much slices will
+     *              be between two block.
+     * @return Path as future.
+     */
+    @Nonnull
+    public static CompletableFuture<Location[]> findPath(@Nonnull Location start, @Nonnull Location end, int slice) {
+        return PathfinderHandler.findPath(start, end, PathMode.DEFAULT, slice);
+    }
+
+    /**
+     * Finds path asynchronously.
+     *
+     * @param start Start location.
+     * @param end   End location.
+     * @param mode  Search mode.
+     * @param slice How much slices will
+     *              be between two block.
+     * @return Path as future.
+     */
+    @Nonnull
+    public static CompletableFuture<Location[]> findPath(@Nonnull Location start, @Nonnull Location end, @Nonnull PathMode mode, int slice) {
+        return PathfinderHandler.findPath(start, end, 1000, false, 1, mode, slice);
+    }
+
+    /**
+     * Finds path asynchronously.
+     *
+     * @param start           Start location.
+     * @param end             End location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @param slice           How much slices will
+     *                        be between two block.
+     * @return Path as future.
+     */
+    @Nonnull
+    public static CompletableFuture<Location[]> findPath(@Nonnull Location start,
+                                                         @Nonnull Location end,
+                                                         int maxNodeTests,
+                                                         boolean canClimbLadders,
+                                                         double maxFallDistance,
+                                                         int slice) {
+        return PathfinderHandler.findPath(start, end, maxNodeTests, canClimbLadders, maxFallDistance, PathMode.DEFAULT, slice);
+    }
+
+    /**
+     * Finds path asynchronously.
+     *
+     * @param start           Start location.
+     * @param end             End location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @param mode            Search mode.
+     * @param slice           How much slices will
+     *                        be between two block.
+     * @return Path as future.
+     */
+    @Nonnull
+    public static CompletableFuture<Location[]> findPath(@Nonnull Location start,
+                                                         @Nonnull Location end,
+                                                         int maxNodeTests,
+                                                         boolean canClimbLadders,
+                                                         double maxFallDistance,
+                                                         @Nonnull PathMode mode,
+                                                         int slice) {
+        Validate.notNull(start, "start location cannot be null!");
+        Validate.notNull(end, "end location cannot be null!");
+        Validate.isTrue(start.getWorld() == null, "start world cannot be null!");
+        Validate.isTrue(!start.getWorld().equals(end.getWorld()), "start and end worlds must be equal!");
+
+        Location from = start.clone();
+        for (WaypointGraph graph : graphs) {
+            Optional<Location[]> route = graph.findRoute(from, end);
+            if (route.isPresent())
+                return CompletableFuture.completedFuture(PathfinderHandler.slice(route.get(), from, slice));
+        }
+
+        return PathfinderHandler.findNodes(from, end, maxNodeTests, canClimbLadders, maxFallDistance, mode)
+                .thenApply(path -> path.map(value -> PathfinderHandler.slice(value.getNodes(), from, slice))
+                        .orElseGet(() -> new Location[0]));
+    }
+
+    /**
+     * Finds locations of nodes asynchronously.
+     * If a valid path between same blocks is
+     * in path cache, it is used without search.
+     *
+     * @param start           Start location.
+     * @param end             End location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @return Found path as future, or empty
+     * optional if path is not found.
+     */
+    @Nonnull
+    public static CompletableFuture<Optional<CachedPath>> findNodes(@Nonnull Location start,
+                                                                    @Nonnull Location end,
+                                                                    int maxNodeTests,
+                                                                    boolean canClimbLadders,
+                                                                    double maxFallDistance) {
+        return PathfinderHandler.findNodes(start, end, maxNodeTests, canClimbLadders, maxFallDistance, PathMode.DEFAULT);
+    }
+
+    /**
+     * Finds locations of nodes asynchronously.
+     * If a valid path between same blocks is
+     * in path cache, it is used without search.
+     *
+     * @param start           Start location.
+     * @param end             End location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @param mode            Search mode.
+     * @return Found path as future, or empty
+     * optional if path is not found.
+     */
+    @Nonnull
+    public static CompletableFuture<Optional<CachedPath>> findNodes(@Nonnull Location start,
+                                                                    @Nonnull Location end,
+                                                                    int maxNodeTests,
+                                                                    boolean canClimbLadders,
+                                                                    double maxFallDistance,
+                                                                    @Nonnull PathMode mode) {
+        Validate.notNull(start, "start location cannot be null!");
+        Validate.notNull(end, "end location cannot be null!");
+        Validate.isTrue(start.getWorld() == null, "start world cannot be null!");
+        Validate.isTrue(!start.getWorld().equals(end.getWorld()), "start and end worlds must be equal!");
+
+        Location from = start.clone();
+        Location to = end.clone();
+
+        PathKey key = new PathKey(from, to, maxNodeTests, canClimbLadders, maxFallDistance, mode);
+        Optional<CachedPath> cached = pathCache.find(key, PathfinderHandler.getCache(from.getWorld()));
+        if (cached.isPresent())
+            return CompletableFuture.completedFuture(cached);
+
+        return PathfinderHandler.capture(from, to).thenApplyAsync(access -> {
+            Location[] nodes = new Pathfinder(from, to, access, maxNodeTests, canClimbLadders, maxFallDistance, mode).findNodes();
+            if (nodes.length == 0)
+                return Optional.empty();
+
+            CachedPath path = CachedPath.of(nodes, access);
+            pathCache.put(key, path);
+            return Optional.of(path);
+        }, getExecutor());
+    }
+
+    /**
+     * Slices locations of nodes. First node
+     * is replaced with start location, so
+     * paths found from another location in
+     * same block start from exact location.
+     *
+     * @param nodes Locations of nodes.
+     * @param start Start location.
+     * @param slice How much slices will
+     *              be between two block.
+     * @return Path.
+     */
+    @Nonnull
+    private static Location[] slice(@Nonnull Location[] nodes, @Nonnull Location start, int slice) {
+        nodes[0] = start.clone();
+        return Pathfinder.slice(nodes, slice);
+    }
+
+    /**
+     * Captures blocks of corridor between
+     * start and end locations on main thread.
+     * At most {@link #SNAPSHOTS_PER_TICK} chunks
+     * are captured per tick, so long paths do
+     * not stall a single tick. If corridor has
+     * more than {@link #MAX_REGION_CHUNKS} chunks,
+     * future is completed exceptionally.
+     *
+     * @param start Start location.
+     * @param end   End location.
+     * @return Snapshot block access as future.
+     */
+    @Nonnull
+    private static CompletableFuture<SnapshotBlockAccess> capture(@Nonnull Location start, @Nonnull Location end) {
+        CompletableFuture<SnapshotBlockAccess> future = new CompletableFuture<>();
+
+        SnapshotBlockAccess access;
+        try {
+            access = SnapshotBlockAccess.create(start.getWorld(), PathfinderHandler.getCache(start.getWorld()),
+                    start.getBlockX(), start.getBlockY(), start.getBlockZ(),
+                    end.getBlockX(), end.getBlockY(), end.getBlockZ(),
+                    REGION_MARGIN, MAX_REGION_CHUNKS);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        if (Bukkit.isPrimaryThread() && access.captureNext(SNAPSHOTS_PER_TICK)) {
+            future.complete(access);
+            return future;
+        }
+
+        HCore.syncScheduler().every(1).run(runnable -> {
+            try {
+                if (access.captureNext(SNAPSHOTS_PER_TICK)) {
+                    runnable.cancel();
+                    future.complete(access);
+                }
+            } catch (Exception e) {
+                runnable.cancel();
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,28 @@
+package com.hakan.core.pathfinder.access;
+
+/**
+ * BlockAccess interface to read
+ * blocks that pathfinder needs.
+ */
+public interface BlockAccess {
+
+    /**
+     * Checks if block is solid.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return If block is solid, returns true.
+     */
+    boolean isSolid(int x, int y, int z);
+
+    /**
+     * Checks if block is ladder.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return If block is ladder, returns true.
+     */
+    boolean isLadder(int x, int y, int z);
+}
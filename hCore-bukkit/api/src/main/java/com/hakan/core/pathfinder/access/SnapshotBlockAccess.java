@@ -0,0 +1,339 @@
+package com.hakan.core.pathfinder.access;
+
+import com.hakan.core.pathfinder.Pathfinder;
+import com.hakan.core.pathfinder.walkability.WalkSection;
+import com.hakan.core.pathfinder.walkability.WalkabilityCache;
+import com.hakan.core.utils.LongMap;
+import com.hakan.core.utils.Validate;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * SnapshotBlockAccess class to read blocks
+ * from chunk snapshots of a corridor between
+ * two blocks. Snapshots are captured on main
+ * thread, a limited count per tick, and can be
+ * read from any thread after that. Blocks in
+ * chunks that were not loaded or are out of
+ * corridor are treated as solid, so pathfinder
+ * never walks into them.
+ * <p>
+ * Sections are read from walkability cache
+ * of world first. Sections built from
+ * snapshots are put into cache, so the
+ * next search does not need to read them.
+ */
+public final class SnapshotBlockAccess implements BlockAccess {
+
+    private static final double CHUNK_RADIUS = 8 * Math.sqrt(2);
+
+    /**
+     * Creates snapshot block access of the
+     * corridor between start and end blocks.
+     * Only chunks that are closer to the line
+     * between them than margin are captured,
+     * and nothing is captured until {@link
+     * #captureNext(int)} is called.
+     *
+     * @param world     World.
+     * @param cache     Walkability cache of world.
+     * @param startX    Start block x.
+     * @param startY    Start block y.
+     * @param startZ    Start block z.
+     * @param endX      End block x.
+     * @param endY      End block y.
+     * @param endZ      End block z.
+     * @param margin    Margin as block.
+     * @param maxChunks Maximum count of chunks in corridor.
+     * @return Snapshot block access.
+     * @throws IllegalArgumentException If corridor has more chunks than maximum.
+     */
+    @Nonnull
+    public static SnapshotBlockAccess create(@Nonnull World world,
+                                             @Nonnull WalkabilityCache cache,
+                                             int startX, int startY, int startZ,
+                                             int endX, int endY, int endZ,
+                                             int margin, int maxChunks) {
+        Validate.notNull(world, "world cannot be null!");
+        Validate.notNull(cache, "cache cannot be null!");
+        Validate.isTrue(margin < 0, "margin cannot be negative!");
+
+        double deltaX = endX - startX;
+        double deltaZ = endZ - startZ;
+        double lengthSquared = deltaX * deltaX + deltaZ * deltaZ;
+        double reach = margin + CHUNK_RADIUS;
+
+        int minChunkX = (Math.min(startX, endX) - margin) >> 4;
+        int minChunkZ = (Math.min(startZ, endZ) - margin) >> 4;
+        int maxChunkX = (Math.max(startX, endX) + margin) >> 4;
+        int maxChunkZ = (Math.max(startZ, endZ) + margin) >> 4;
+
+        long[] chunks = new long[16];
+        int count = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                double centerX = (chunkX << 4) + 8 - startX;
+                double centerZ = (chunkZ << 4) + 8 - startZ;
+                double t = (lengthSquared == 0) ? 0 : Math.max(0, Math.min(1, (centerX * deltaX + centerZ * deltaZ) / lengthSquared));
+                double distanceX = centerX - t * deltaX;
+                double distanceZ = centerZ - t * deltaZ;
+                if (distanceX * distanceX + distanceZ * distanceZ > reach * reach)
+                    continue;
+
+                Validate.isTrue(count >= maxChunks, "path region is too large! (more than " + maxChunks + " chunks)");
+                if (count == chunks.length)
+                    chunks = Arrays.copyOf(chunks, count * 2);
+                chunks[count++] = SnapshotBlockAccess.toKey(chunkX, chunkZ);
+            }
+        }
+
+        int minSectionY = Math.max(Math.min(startY, endY) - margin, cache.getMinHeight()) >> 4;
+        int maxSectionY = Math.min(Math.max(startY, endY) + margin, cache.getMaxHeight() - 1) >> 4;
+        return new SnapshotBlockAccess(world, cache, Arrays.copyOf(chunks, count), minSectionY, maxSectionY);
+    }
+
+    /**
+     * Pins cached sections of chunk between
+     * given sections, so they are used even if
+     * they are invalidated after capture. If
+     * any of them is not cached, nothing is
+     * pinned.
+     *
+     * @param cache       Walkability cache.
+     * @param sections    Pinned sections.
+     * @param chunkX      Chunk x.
+     * @param chunkZ      Chunk z.
+     * @param minSectionY Minimum section y.
+     * @param maxSectionY Maximum section y.
+     * @return If all sections are cached, returns true.
+     */
+    private static boolean pin(@Nonnull WalkabilityCache cache,
+                               @Nonnull LongMap<WalkSection> sections,
+                               int chunkX, int chunkZ,
+                               int minSectionY, int maxSectionY) {
+        WalkSection[] found = new WalkSection[Math.max(0, maxSectionY - minSectionY + 1)];
+        for (int i = 0; i < found.length; i++) {
+            if ((found[i] = cache.findSection(chunkX, minSectionY + i, chunkZ)) == null)
+                return false;
+        }
+
+        for (int i = 0; i < found.length; i++)
+            sections.put(Pathfinder.pack(chunkX, minSectionY + i, chunkZ), found[i]);
+        return true;
+    }
+
+    /**
+     * Packs chunk coordinates into a long key.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Key.
+     */
+    private static long toKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+
+    private final World world;
+    private final WalkabilityCache cache;
+    private final long[] chunks;
+    private final int minSectionY;
+    private final int maxSectionY;
+    private final LongMap<Capture> captures;
+    private final LongMap<WalkSection> sections;
+    private int captured;
+    private long lastKey = Long.MIN_VALUE;
+    private WalkSection lastSection;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param world       World.
+     * @param cache       Walkability cache.
+     * @param chunks      Keys of chunks to capture.
+     * @param minSectionY Minimum section y.
+     * @param maxSectionY Maximum section y.
+     */
+    private SnapshotBlockAccess(@Nonnull World world,
+                                @Nonnull WalkabilityCache cache,
+                                @Nonnull long[] chunks,
+                                int minSectionY,
+                                int maxSectionY) {
+        this.world = world;
+        this.cache = cache;
+        this.chunks = chunks;
+        this.minSectionY = minSectionY;
+        this.maxSectionY = maxSectionY;
+        this.captures = new LongMap<>(chunks.length);
+        this.sections = new LongMap<>();
+    }
+
+    /**
+     * Gets world.
+     *
+     * @return World.
+     */
+    @Nonnull
+    public World getWorld() {
+        return this.world;
+    }
+
+    /**
+     * Checks if all chunks of
+     * corridor are captured.
+     *
+     * @return If all chunks are captured, returns true.
+     */
+    public boolean isCaptured() {
+        return this.captured == this.chunks.length;
+    }
+
+    /**
+     * Captures next chunks of corridor.
+     * Chunks are not loaded. Chunks whose
+     * sections between minimum and maximum
+     * y are already cached are not captured,
+     * their cached sections are pinned instead.
+     * Only snapshots are counted for limit, so
+     * a search can be captured through a few
+     * ticks. It must be called from main thread.
+     *
+     * @param limit Maximum count of snapshots.
+     * @return If all chunks are captured, returns true.
+     */
+    public boolean captureNext(int limit) {
+        int snapshots = 0;
+        while (this.captured < this.chunks.length && snapshots < limit) {
+            long key = this.chunks[this.captured++];
+            int chunkX = (int) (key >> 32), chunkZ = (int) key;
+
+            long stamp = this.cache.getStamp(chunkX, chunkZ);
+            if (!this.world.isChunkLoaded(chunkX, chunkZ) ||
+                    SnapshotBlockAccess.pin(this.cache, this.sections, chunkX, chunkZ, this.minSectionY, this.maxSectionY)) {
+                this.captures.put(key, new Capture(null, stamp));
+                continue;
+            }
+
+            ChunkSnapshot snapshot = this.world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false);
+            this.captures.put(key, new Capture(snapshot, stamp));
+            snapshots++;
+        }
+        return this.isCaptured();
+    }
+
+    /**
+     * Gets stamp of chunk column when
+     * it is captured. It can be used
+     * to check if chunk is changed after
+     * capture.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Stamp, or current stamp if chunk is out of region.
+     */
+    public long getStamp(int chunkX, int chunkZ) {
+        Capture capture = this.captures.get(SnapshotBlockAccess.toKey(chunkX, chunkZ));
+        return (capture != null) ?
+                capture.stamp :
+                this.cache.getStamp(chunkX, chunkZ);
+    }
+
+    /**
+     * Gets walkability cache of world.
+     *
+     * @return Walkability cache.
+     */
+    @Nonnull
+    public WalkabilityCache getCache() {
+        return this.cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSolid(int x, int y, int z) {
+        if (y < this.cache.getMinHeight() || y >= this.cache.getMaxHeight())
+            return false;
+
+        WalkSection section = this.getSection(x, y, z);
+        return section == null || section.isSolid(x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLadder(int x, int y, int z) {
+        if (y < this.cache.getMinHeight() || y >= this.cache.getMaxHeight())
+            return false;
+
+        WalkSection section = this.getSection(x, y, z);
+        return section != null && section.isLadder(x, y, z);
+    }
+
+    /**
+     * Gets section of block. Sections that
+     * are used once are kept until the end
+     * of search even if they are invalidated
+     * in cache, so search sees a consistent
+     * view of the world.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Section, or null if chunk is not captured.
+     */
+    private WalkSection getSection(int x, int y, int z) {
+        int chunkX = x >> 4, sectionY = y >> 4, chunkZ = z >> 4;
+        long key = Pathfinder.pack(chunkX, sectionY, chunkZ);
+        if (key == this.lastKey && this.lastSection != null)
+            return this.lastSection;
+
+        WalkSection section = this.sections.get(key);
+        if (section == null) {
+            section = this.cache.findSection(chunkX, sectionY, chunkZ);
+            if (section == null) {
+                Capture capture = this.captures.get(SnapshotBlockAccess.toKey(chunkX, chunkZ));
+                if (capture == null || capture.snapshot == null)
+                    return null;
+
+                section = WalkSection.fromSnapshot(capture.snapshot, sectionY);
+                this.cache.putSection(chunkX, sectionY, chunkZ, section, capture.stamp);
+            }
+            this.sections.put(key, section);
+        }
+
+        this.lastKey = key;
+        this.lastSection = section;
+        return section;
+    }
+
+
+    /**
+     * Capture class to keep snapshot of a
+     * chunk with its stamp at capture time.
+     * Snapshot is null if chunk is not loaded
+     * or its sections are pinned from cache.
+     */
+    private static final class Capture {
+
+        private final ChunkSnapshot snapshot;
+        private final long stamp;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param snapshot Chunk snapshot.
+         * @param stamp    Stamp of chunk.
+         */
+        private Capture(@Nullable ChunkSnapshot snapshot, long stamp) {
+            this.snapshot = snapshot;
+            this.stamp = stamp;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.hakan.core.pathfinder.access;
+
+import com.hakan.core.HCore;
+import com.hakan.core.protocol.ProtocolVersion;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * SnapshotReader class to read block
+ * types from chunk snapshots on every
+ * server version. Snapshots are immutable,
+ * so it can be used from any thread.
+ */
+@SuppressWarnings({"deprecation"})
+public final class SnapshotReader {
+
+    private static volatile MethodHandle legacyTypeId;
+    private static Material[] legacyMaterials;
+
+    /**
+     * Gets block type from snapshot.
+     *
+     * @param snapshot Chunk snapshot.
+     * @param x        Block x in chunk.
+     * @param y        Block y.
+     * @param z        Block z in chunk.
+     * @return Block type.
+     */
+    @Nonnull
+    public static Material getType(@Nonnull ChunkSnapshot snapshot, int x, int y, int z) {
+        if (HCore.getProtocolVersion().isNewerOrEqual(ProtocolVersion.v1_13_R1))
+            return snapshot.getBlockType(x, y, z);
+
+        try {
+            if (legacyTypeId == null)
+                SnapshotReader.initializeLegacy();
+
+            int id = (int) legacyTypeId.invokeExact(snapshot, x, y, z);
+            Material material = (id >= 0 && id < legacyMaterials.length) ? legacyMaterials[id] : null;
+            return (material != null) ? material : Material.AIR;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Initializes legacy block id
+     * lookups for servers before 1.13.
+     *
+     * @throws ReflectiveOperationException If method is not found.
+     */
+    private static synchronized void initializeLegacy() throws ReflectiveOperationException {
+        if (legacyTypeId != null)
+            return;
+
+        int maxId = 0;
+        for (Material material : Material.values())
+            maxId = Math.max(maxId, material.getId());
+
+        Material[] materials = new Material[maxId + 1];
+        for (Material material : Material.values())
+            if (material.getId() >= 0 && materials[material.getId()] == null)
+                materials[material.getId()] = material;
+
+        legacyMaterials = materials;
+        legacyTypeId = MethodHandles.publicLookup().findVirtual(ChunkSnapshot.class, "getBlockTypeId",
+                MethodType.methodType(int.class, int.class, int.class, int.class));
+    }
+}
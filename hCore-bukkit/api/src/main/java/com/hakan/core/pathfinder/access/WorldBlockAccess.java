@@ -0,0 +1,106 @@
+package com.hakan.core.pathfinder.access;
+
+import com.hakan.core.pathfinder.Pathfinder;
+import com.hakan.core.pathfinder.PathfinderHandler;
+import com.hakan.core.pathfinder.walkability.WalkSection;
+import com.hakan.core.pathfinder.walkability.WalkabilityCache;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+
+/**
+ * WorldBlockAccess class to read
+ * blocks from live world. It must
+ * be used from main thread.
+ * <p>
+ * Blocks of loaded chunks are read
+ * through walkability cache of world,
+ * blocks of unloaded chunks are read
+ * directly from world.
+ */
+public final class WorldBlockAccess implements BlockAccess {
+
+    private final World world;
+    private final WalkabilityCache cache;
+    private long lastKey = Long.MIN_VALUE;
+    private WalkSection lastSection;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param world World.
+     */
+    public WorldBlockAccess(@Nonnull World world) {
+        this.world = Validate.notNull(world, "world cannot be null!");
+        this.cache = PathfinderHandler.getCache(world);
+    }
+
+    /**
+     * Gets world.
+     *
+     * @return World.
+     */
+    @Nonnull
+    public World getWorld() {
+        return this.world;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSolid(int x, int y, int z) {
+        if (y < this.cache.getMinHeight() || y >= this.cache.getMaxHeight())
+            return false;
+
+        WalkSection section = this.getSection(x, y, z);
+        return (section != null) ?
+                section.isSolid(x, y, z) :
+                this.world.getBlockAt(x, y, z).getType().isSolid();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLadder(int x, int y, int z) {
+        if (y < this.cache.getMinHeight() || y >= this.cache.getMaxHeight())
+            return false;
+
+        WalkSection section = this.getSection(x, y, z);
+        return (section != null) ?
+                section.isLadder(x, y, z) :
+                this.world.getBlockAt(x, y, z).getType() == Material.LADDER;
+    }
+
+    /**
+     * Gets section of block from cache
+     * and builds it if chunk is loaded.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Section, or null if chunk is not loaded.
+     */
+    private WalkSection getSection(int x, int y, int z) {
+        int chunkX = x >> 4, sectionY = y >> 4, chunkZ = z >> 4;
+        long key = Pathfinder.pack(chunkX, sectionY, chunkZ);
+        if (key == this.lastKey && this.lastSection != null)
+            return this.lastSection;
+
+        WalkSection section = this.cache.findSection(chunkX, sectionY, chunkZ);
+        if (section == null) {
+            if (!this.world.isChunkLoaded(chunkX, chunkZ))
+                return null;
+
+            section = WalkSection.fromChunk(this.world.getChunkAt(chunkX, chunkZ), sectionY);
+            this.cache.putSection(chunkX, sectionY, chunkZ, section, this.cache.getStamp(chunkX, chunkZ));
+        }
+
+        this.lastKey = key;
+        this.lastSection = section;
+        return section;
+    }
+}
@@ -0,0 +1,123 @@
+package com.hakan.core.pathfinder.cache;
+
+import com.hakan.core.pathfinder.access.SnapshotBlockAccess;
+import com.hakan.core.pathfinder.walkability.WalkabilityCache;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+
+import javax.annotation.Nonnull;
+
+/**
+ * CachedPath class to keep locations of
+ * nodes of a found path with stamps of
+ * chunk columns it passes through. Path
+ * is valid as long as none of these chunk
+ * columns changed after it is found.
+ */
+public final class CachedPath {
+
+    /**
+     * Creates cached path from locations
+     * of nodes and the access they are
+     * found with.
+     *
+     * @param nodes  Locations of nodes.
+     * @param access Snapshot block access.
+     * @return Cached path.
+     */
+    @Nonnull
+    public static CachedPath of(@Nonnull Location[] nodes, @Nonnull SnapshotBlockAccess access) {
+        Validate.notNull(nodes, "nodes cannot be null!");
+        Validate.notNull(access, "access cannot be null!");
+        Validate.isTrue(nodes.length == 0, "nodes cannot be empty!");
+
+        int minChunkX = Integer.MAX_VALUE, minChunkZ = Integer.MAX_VALUE;
+        int maxChunkX = Integer.MIN_VALUE, maxChunkZ = Integer.MIN_VALUE;
+        for (Location node : nodes) {
+            minChunkX = Math.min(minChunkX, node.getBlockX() >> 4);
+            minChunkZ = Math.min(minChunkZ, node.getBlockZ() >> 4);
+            maxChunkX = Math.max(maxChunkX, node.getBlockX() >> 4);
+            maxChunkZ = Math.max(maxChunkZ, node.getBlockZ() >> 4);
+        }
+
+        int width = maxChunkZ - minChunkZ + 1;
+        long[] stamps = new long[(maxChunkX - minChunkX + 1) * width];
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+                stamps[(chunkX - minChunkX) * width + (chunkZ - minChunkZ)] = access.getStamp(chunkX, chunkZ);
+
+        return new CachedPath(nodes, minChunkX, minChunkZ, maxChunkX, maxChunkZ, stamps);
+    }
+
+
+    private final Location[] nodes;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int maxChunkX;
+    private final int maxChunkZ;
+    private final long[] stamps;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param nodes     Locations of nodes.
+     * @param minChunkX Minimum chunk x.
+     * @param minChunkZ Minimum chunk z.
+     * @param maxChunkX Maximum chunk x.
+     * @param maxChunkZ Maximum chunk z.
+     * @param stamps    Stamps of chunk columns.
+     */
+    private CachedPath(@Nonnull Location[] nodes,
+                       int minChunkX, int minChunkZ,
+                       int maxChunkX, int maxChunkZ,
+                       @Nonnull long[] stamps) {
+        this.nodes = nodes;
+        this.minChunkX = minChunkX;
+        this.minChunkZ = minChunkZ;
+        this.maxChunkX = maxChunkX;
+        this.maxChunkZ = maxChunkZ;
+        this.stamps = stamps;
+    }
+
+    /**
+     * Gets copy of locations of nodes.
+     *
+     * @return Locations of nodes.
+     */
+    @Nonnull
+    public Location[] getNodes() {
+        Location[] nodes = new Location[this.nodes.length];
+        for (int i = 0; i < nodes.length; i++)
+            nodes[i] = this.nodes[i].clone();
+        return nodes;
+    }
+
+    /**
+     * Gets count of nodes.
+     *
+     * @return Node count.
+     */
+    public int size() {
+        return this.nodes.length;
+    }
+
+    /**
+     * Checks if none of chunk columns
+     * of path changed after it is found.
+     *
+     * @param cache Walkability cache of world.
+     * @return If path is still valid, returns true.
+     */
+    public boolean isValid(@Nonnull WalkabilityCache cache) {
+        Validate.notNull(cache, "cache cannot be null!");
+
+        int width = this.maxChunkZ - this.minChunkZ + 1;
+        for (int chunkX = this.minChunkX; chunkX <= this.maxChunkX; chunkX++) {
+            for (int chunkZ = this.minChunkZ; chunkZ <= this.maxChunkZ; chunkZ++) {
+                if (cache.getStamp(chunkX, chunkZ) != this.stamps[(chunkX - this.minChunkX) * width + (chunkZ - this.minChunkZ)])
+                    return false;
+            }
+        }
+        return true;
+    }
+}
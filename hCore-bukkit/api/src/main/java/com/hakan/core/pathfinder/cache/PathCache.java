@@ -0,0 +1,133 @@
+package com.hakan.core.pathfinder.cache;
+
+import com.hakan.core.pathfinder.walkability.WalkabilityCache;
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * PathCache class to keep recently found
+ * paths. Least recently used path is removed
+ * when capacity is exceeded. Paths whose
+ * chunk columns changed are removed when
+ * they are looked up.
+ */
+public final class PathCache {
+
+    private final int capacity;
+    private final LinkedHashMap<PathKey, CachedPath> paths;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param capacity Maximum count of paths.
+     */
+    public PathCache(int capacity) {
+        Validate.isTrue(capacity <= 0, "capacity must be greater than 0!");
+        this.capacity = capacity;
+        this.paths = new LinkedHashMap<PathKey, CachedPath>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PathKey, CachedPath> eldest) {
+                return this.size() > PathCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets capacity of cache.
+     *
+     * @return Capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets count of cached paths.
+     *
+     * @return Path count.
+     */
+    public synchronized int size() {
+        return this.paths.size();
+    }
+
+    /**
+     * Gets count of lookups that
+     * found a valid path.
+     *
+     * @return Hit count.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Gets count of lookups that
+     * did not find a valid path.
+     *
+     * @return Miss count.
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Finds valid path of key. If path
+     * is found but it is not valid anymore,
+     * it is removed.
+     *
+     * @param key   Path key.
+     * @param cache Walkability cache of world.
+     * @return Cached path as optional.
+     */
+    @Nonnull
+    public synchronized Optional<CachedPath> find(@Nonnull PathKey key, @Nonnull WalkabilityCache cache) {
+        Validate.notNull(key, "key cannot be null!");
+        Validate.notNull(cache, "cache cannot be null!");
+
+        CachedPath path = this.paths.get(key);
+        if (path != null && !path.isValid(cache)) {
+            this.paths.remove(key);
+            path = null;
+        }
+
+        if (path == null) this.misses++;
+        else this.hits++;
+        return Optional.ofNullable(path);
+    }
+
+    /**
+     * Puts path to cache.
+     *
+     * @param key  Path key.
+     * @param path Cached path.
+     */
+    public synchronized void put(@Nonnull PathKey key, @Nonnull CachedPath path) {
+        Validate.notNull(key, "key cannot be null!");
+        Validate.notNull(path, "path cannot be null!");
+        this.paths.put(key, path);
+    }
+
+    /**
+     * Removes all paths in world.
+     *
+     * @param worldUID World uid.
+     */
+    public synchronized void clear(@Nonnull UUID worldUID) {
+        Validate.notNull(worldUID, "world uid cannot be null!");
+        this.paths.keySet().removeIf(key -> key.getWorldUID().equals(worldUID));
+    }
+
+    /**
+     * Removes all paths.
+     */
+    public synchronized void clear() {
+        this.paths.clear();
+    }
+}
@@ -0,0 +1,92 @@
+package com.hakan.core.pathfinder.cache;
+
+import com.hakan.core.pathfinder.PathMode;
+import com.hakan.core.pathfinder.Pathfinder;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * PathKey class to identify a search by
+ * world, start block, end block and
+ * pathfinder options. Locations are
+ * quantized to their blocks.
+ */
+public final class PathKey {
+
+    private final UUID worldUID;
+    private final long start;
+    private final long end;
+    private final int maxNodeTests;
+    private final boolean canClimbLadders;
+    private final double maxFallDistance;
+    private final PathMode mode;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param start           Start location.
+     * @param end             End location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @param mode            Search mode.
+     */
+    public PathKey(@Nonnull Location start,
+                   @Nonnull Location end,
+                   int maxNodeTests,
+                   boolean canClimbLadders,
+                   double maxFallDistance,
+                   @Nonnull PathMode mode) {
+        Validate.notNull(start, "start location cannot be null!");
+        Validate.notNull(end, "end location cannot be null!");
+        Validate.notNull(start.getWorld(), "start world cannot be null!");
+        Validate.notNull(mode, "mode cannot be null!");
+
+        this.worldUID = start.getWorld().getUID();
+        this.start = Pathfinder.pack(start.getBlockX(), start.getBlockY(), start.getBlockZ());
+        this.end = Pathfinder.pack(end.getBlockX(), end.getBlockY(), end.getBlockZ());
+        this.maxNodeTests = maxNodeTests;
+        this.canClimbLadders = canClimbLadders;
+        this.maxFallDistance = maxFallDistance;
+        this.mode = mode;
+    }
+
+    /**
+     * Gets world uid.
+     *
+     * @return World uid.
+     */
+    @Nonnull
+    public UUID getWorldUID() {
+        return this.worldUID;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        PathKey pathKey = (PathKey) o;
+        return this.start == pathKey.start &&
+                this.end == pathKey.end &&
+                this.maxNodeTests == pathKey.maxNodeTests &&
+                this.canClimbLadders == pathKey.canClimbLadders &&
+                Double.compare(pathKey.maxFallDistance, this.maxFallDistance) == 0 &&
+                this.mode == pathKey.mode &&
+                this.worldUID.equals(pathKey.worldUID);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.worldUID, this.start, this.end, this.maxNodeTests, this.canClimbLadders, this.maxFallDistance, this.mode);
+    }
+}
@@ -0,0 +1,404 @@
+package com.hakan.core.pathfinder.graph;
+
+import com.hakan.core.pathfinder.Pathfinder;
+import com.hakan.core.pathfinder.PathfinderHandler;
+import com.hakan.core.pathfinder.cache.CachedPath;
+import com.hakan.core.pathfinder.walkability.WalkabilityCache;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * WaypointGraph class to serve routes of
+ * static areas without searching. Paths
+ * between connected waypoints are found
+ * once and routes between waypoints are
+ * joined from them with Dijkstra.
+ * <p>
+ * Paths are directed, so a path that falls
+ * from a ledge is never used to climb it.
+ * Paths whose chunks changed are dropped
+ * and found again in background.
+ */
+public final class WaypointGraph {
+
+    private final World world;
+    private final int maxNodeTests;
+    private final boolean canClimbLadders;
+    private final double maxFallDistance;
+    private final Map<String, Waypoint> waypoints;
+    private final Map<Long, Waypoint> blocks;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param world World.
+     */
+    public WaypointGraph(@Nonnull World world) {
+        this(world, 1000, false, 1);
+    }
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param world           World.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     */
+    public WaypointGraph(@Nonnull World world, int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        this.world = Validate.notNull(world, "world cannot be null!");
+        this.maxNodeTests = maxNodeTests;
+        this.canClimbLadders = canClimbLadders;
+        this.maxFallDistance = maxFallDistance;
+        this.waypoints = new LinkedHashMap<>();
+        this.blocks = new HashMap<>();
+    }
+
+    /**
+     * Gets world.
+     *
+     * @return World.
+     */
+    @Nonnull
+    public World getWorld() {
+        return this.world;
+    }
+
+    /**
+     * Gets ids of waypoints.
+     *
+     * @return Ids of waypoints.
+     */
+    @Nonnull
+    public synchronized Collection<String> getWaypoints() {
+        return new ArrayList<>(this.waypoints.keySet());
+    }
+
+    /**
+     * Finds location of waypoint.
+     *
+     * @param id Id of waypoint.
+     * @return Location as optional.
+     */
+    @Nonnull
+    public synchronized Optional<Location> findWaypoint(@Nonnull String id) {
+        Validate.notNull(id, "id cannot be null!");
+        return Optional.ofNullable(this.waypoints.get(id)).map(waypoint -> waypoint.location.clone());
+    }
+
+    /**
+     * Adds waypoint to graph.
+     *
+     * @param id       Id of waypoint.
+     * @param location Location of waypoint.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized WaypointGraph addWaypoint(@Nonnull String id, @Nonnull Location location) {
+        Validate.notNull(id, "id cannot be null!");
+        Validate.notNull(location, "location cannot be null!");
+        Validate.isTrue(!this.world.equals(location.getWorld()), "location must be in world of graph!");
+        Validate.isTrue(this.waypoints.containsKey(id), "waypoint(" + id + ") already exists!");
+
+        long block = Pathfinder.pack(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        Validate.isTrue(this.blocks.containsKey(block), "there is already a waypoint at this block!");
+
+        Waypoint waypoint = new Waypoint(id, location.clone(), block);
+        this.waypoints.put(id, waypoint);
+        this.blocks.put(block, waypoint);
+        return this;
+    }
+
+    /**
+     * Removes waypoint and its
+     * connections from graph.
+     *
+     * @param id Id of waypoint.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized WaypointGraph removeWaypoint(@Nonnull String id) {
+        Validate.notNull(id, "id cannot be null!");
+
+        Waypoint waypoint = this.waypoints.remove(id);
+        if (waypoint == null)
+            return this;
+
+        this.blocks.remove(waypoint.block);
+        this.waypoints.values().forEach(other -> other.edges.remove(id));
+        return this;
+    }
+
+    /**
+     * Connects two waypoints in
+     * both directions.
+     *
+     * @param first  Id of first waypoint.
+     * @param second Id of second waypoint.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized WaypointGraph connect(@Nonnull String first, @Nonnull String second) {
+        Waypoint from = this.getWaypoint(first);
+        Waypoint to = this.getWaypoint(second);
+        Validate.isTrue(from == to, "waypoint cannot be connected to itself!");
+
+        from.edges.putIfAbsent(to.id, new Edge(from, to));
+        to.edges.putIfAbsent(from.id, new Edge(to, from));
+        return this;
+    }
+
+    /**
+     * Disconnects two waypoints in
+     * both directions.
+     *
+     * @param first  Id of first waypoint.
+     * @param second Id of second waypoint.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized WaypointGraph disconnect(@Nonnull String first, @Nonnull String second) {
+        Waypoint from = this.getWaypoint(first);
+        Waypoint to = this.getWaypoint(second);
+
+        from.edges.remove(to.id);
+        to.edges.remove(from.id);
+        return this;
+    }
+
+    /**
+     * Finds paths of connections that are
+     * not found yet or are not valid anymore.
+     *
+     * @return Future that is completed when
+     * all paths are found.
+     */
+    @Nonnull
+    public synchronized CompletableFuture<Void> precompute() {
+        WalkabilityCache cache = PathfinderHandler.getCache(this.world);
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (Waypoint waypoint : this.waypoints.values()) {
+            for (Edge edge : waypoint.edges.values()) {
+                if (edge.path != null && edge.path.isValid(cache))
+                    continue;
+
+                edge.path = null;
+                if (edge.future == null || edge.future.isDone())
+                    edge.future = this.compute(edge);
+                futures.add(edge.future);
+            }
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Finds route between two waypoints. Start
+     * and end locations must be at blocks of
+     * waypoints. Connections whose paths are
+     * not valid anymore are skipped and their
+     * paths are found again in background.
+     *
+     * @param start Start location.
+     * @param end   End location.
+     * @return Locations of nodes as optional.
+     */
+    @Nonnull
+    public synchronized Optional<Location[]> findRoute(@Nonnull Location start, @Nonnull Location end) {
+        Validate.notNull(start, "start location cannot be null!");
+        Validate.notNull(end, "end location cannot be null!");
+
+        if (!this.world.equals(start.getWorld()) || !this.world.equals(end.getWorld()))
+            return Optional.empty();
+
+        Waypoint from = this.blocks.get(Pathfinder.pack(start.getBlockX(), start.getBlockY(), start.getBlockZ()));
+        Waypoint to = this.blocks.get(Pathfinder.pack(end.getBlockX(), end.getBlockY(), end.getBlockZ()));
+        if (from == null || to == null || from == to)
+            return Optional.empty();
+
+        WalkabilityCache cache = PathfinderHandler.getCache(this.world);
+        Map<Waypoint, Double> distances = new HashMap<>();
+        Map<Waypoint, Edge> previous = new HashMap<>();
+        PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+        distances.put(from, 0.0);
+        queue.add(new Entry(from, 0));
+
+        while (!queue.isEmpty()) {
+            Entry entry = queue.poll();
+            if (entry.waypoint == to)
+                break;
+            if (entry.distance > distances.get(entry.waypoint))
+                continue;
+
+            for (Edge edge : entry.waypoint.edges.values()) {
+                if (!this.isUsable(edge, cache))
+                    continue;
+
+                double distance = entry.distance + edge.path.size();
+                Double current = distances.get(edge.to);
+                if (current == null || distance < current) {
+                    distances.put(edge.to, distance);
+                    previous.put(edge.to, edge);
+                    queue.add(new Entry(edge.to, distance));
+                }
+            }
+        }
+
+        if (!previous.containsKey(to))
+            return Optional.empty();
+
+        List<Edge> edges = new ArrayList<>();
+        for (Waypoint waypoint = to; waypoint != from; waypoint = previous.get(waypoint).from)
+            edges.add(0, previous.get(waypoint));
+
+        List<Location> route = new ArrayList<>();
+        for (Edge edge : edges) {
+            Location[] nodes = edge.path.getNodes();
+            for (int i = route.isEmpty() ? 0 : 1; i < nodes.length; i++)
+                route.add(nodes[i]);
+        }
+
+        return Optional.of(route.toArray(new Location[0]));
+    }
+
+    /**
+     * Gets waypoint from id.
+     *
+     * @param id Id of waypoint.
+     * @return Waypoint.
+     */
+    @Nonnull
+    private Waypoint getWaypoint(@Nonnull String id) {
+        Validate.notNull(id, "id cannot be null!");
+        return Validate.notNull(this.waypoints.get(id), "waypoint(" + id + ") not found!");
+    }
+
+    /**
+     * Checks if path of edge is found and
+     * still valid. If it is not valid, it is
+     * dropped and found again in background.
+     *
+     * @param edge  Edge.
+     * @param cache Walkability cache of world.
+     * @return If edge is usable, returns true.
+     */
+    private boolean isUsable(@Nonnull Edge edge, @Nonnull WalkabilityCache cache) {
+        if (edge.path != null && edge.path.isValid(cache))
+            return true;
+
+        edge.path = null;
+        if (edge.future == null || edge.future.isDone())
+            edge.future = this.compute(edge);
+        return false;
+    }
+
+    /**
+     * Finds path of edge in background.
+     *
+     * @param edge Edge.
+     * @return Future of path.
+     */
+    @Nonnull
+    private CompletableFuture<?> compute(@Nonnull Edge edge) {
+        return PathfinderHandler.findNodes(edge.from.location, edge.to.location, this.maxNodeTests, this.canClimbLadders, this.maxFallDistance)
+                .whenComplete((path, error) -> {
+                    synchronized (this) {
+                        if (error == null && edge.from.edges.get(edge.to.id) == edge)
+                            edge.path = path.orElse(null);
+                    }
+                });
+    }
+
+
+    /**
+     * Waypoint class to keep location
+     * and connections of a waypoint.
+     */
+    private static final class Waypoint {
+
+        private final String id;
+        private final Location location;
+        private final long block;
+        private final Map<String, Edge> edges;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param id       Id of waypoint.
+         * @param location Location of waypoint.
+         * @param block    Packed block of location.
+         */
+        private Waypoint(@Nonnull String id, @Nonnull Location location, long block) {
+            this.id = id;
+            this.location = location;
+            this.block = block;
+            this.edges = new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Edge class to keep directed
+     * connection and its path.
+     */
+    private static final class Edge {
+
+        private final Waypoint from;
+        private final Waypoint to;
+        private CachedPath path;
+        private CompletableFuture<?> future;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param from Waypoint that edge starts.
+         * @param to   Waypoint that edge ends.
+         */
+        private Edge(@Nonnull Waypoint from, @Nonnull Waypoint to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    /**
+     * Entry class to keep distance of
+     * waypoint in Dijkstra queue.
+     */
+    private static final class Entry implements Comparable<Entry> {
+
+        private final Waypoint waypoint;
+        private final double distance;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param waypoint Waypoint.
+         * @param distance Distance from start.
+         */
+        private Entry(@Nonnull Waypoint waypoint, double distance) {
+            this.waypoint = waypoint;
+            this.distance = distance;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(@Nonnull Entry entry) {
+            return Double.compare(this.distance, entry.distance);
+        }
+    }
+}
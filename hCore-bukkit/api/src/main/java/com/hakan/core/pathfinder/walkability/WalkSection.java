@@ -0,0 +1,123 @@
+package com.hakan.core.pathfinder.walkability;
+
+import com.hakan.core.pathfinder.access.SnapshotReader;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+
+import javax.annotation.Nonnull;
+
+/**
+ * WalkSection class to keep solid and
+ * ladder blocks of a 16x16x16 chunk
+ * section as packed bitsets. It is
+ * immutable after creation.
+ */
+public final class WalkSection {
+
+    /**
+     * Creates section from chunk snapshot.
+     * It can be called from any thread.
+     *
+     * @param snapshot Chunk snapshot.
+     * @param sectionY Section y.
+     * @return Walk section.
+     */
+    @Nonnull
+    public static WalkSection fromSnapshot(@Nonnull ChunkSnapshot snapshot, int sectionY) {
+        Validate.notNull(snapshot, "snapshot cannot be null!");
+
+        WalkSection section = new WalkSection();
+        int minY = sectionY << 4;
+        for (int y = 0; y < 16; y++)
+            for (int z = 0; z < 16; z++)
+                for (int x = 0; x < 16; x++)
+                    section.set(WalkSection.index(x, y, z), SnapshotReader.getType(snapshot, x, minY + y, z));
+        return section;
+    }
+
+    /**
+     * Creates section from loaded chunk.
+     * It must be called from main thread.
+     *
+     * @param chunk    Chunk.
+     * @param sectionY Section y.
+     * @return Walk section.
+     */
+    @Nonnull
+    public static WalkSection fromChunk(@Nonnull Chunk chunk, int sectionY) {
+        Validate.notNull(chunk, "chunk cannot be null!");
+
+        WalkSection section = new WalkSection();
+        int minY = sectionY << 4;
+        for (int y = 0; y < 16; y++)
+            for (int z = 0; z < 16; z++)
+                for (int x = 0; x < 16; x++)
+                    section.set(WalkSection.index(x, y, z), chunk.getBlock(x, minY + y, z).getType());
+        return section;
+    }
+
+    /**
+     * Gets bit index of block in section.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Bit index.
+     */
+    private static int index(int x, int y, int z) {
+        return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+
+    private final long[] solid;
+    private final long[] ladder;
+
+    /**
+     * Creates new instance of this class.
+     */
+    private WalkSection() {
+        this.solid = new long[64];
+        this.ladder = new long[64];
+    }
+
+    /**
+     * Checks if block is solid.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return If block is solid, returns true.
+     */
+    public boolean isSolid(int x, int y, int z) {
+        int index = WalkSection.index(x, y, z);
+        return (this.solid[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Checks if block is ladder.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return If block is ladder, returns true.
+     */
+    public boolean isLadder(int x, int y, int z) {
+        int index = WalkSection.index(x, y, z);
+        return (this.ladder[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets bits of block.
+     *
+     * @param index Bit index.
+     * @param type  Block type.
+     */
+    private void set(int index, @Nonnull Material type) {
+        if (type.isSolid())
+            this.solid[index >>> 6] |= 1L << index;
+        else if (type == Material.LADDER)
+            this.ladder[index >>> 6] |= 1L << index;
+    }
+}
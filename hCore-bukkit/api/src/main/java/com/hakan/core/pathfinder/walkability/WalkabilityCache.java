@@ -0,0 +1,207 @@
+package com.hakan.core.pathfinder.walkability;
+
+import com.hakan.core.HCore;
+import com.hakan.core.pathfinder.Pathfinder;
+import com.hakan.core.protocol.ProtocolVersion;
+import com.hakan.core.utils.Validate;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * WalkabilityCache class to keep walk
+ * sections of a world. Sections are
+ * invalidated when a block in them
+ * changes, so repeated searches in the
+ * same area do not read blocks again.
+ * <p>
+ * Every chunk column has a stamp that
+ * changes on invalidation. Sections that
+ * are built asynchronously are only kept
+ * if the stamp of their chunk did not
+ * change since the chunk was captured.
+ */
+public final class WalkabilityCache {
+
+    private static final int STAMP_COUNT = 4096;
+
+    /**
+     * Gets minimum height of world. Worlds
+     * before 1.17 always start from 0.
+     *
+     * @param world World.
+     * @return Minimum height.
+     */
+    public static int getMinHeight(@Nonnull World world) {
+        if (HCore.getProtocolVersion().isOlder(ProtocolVersion.v1_17_R1))
+            return 0;
+
+        try {
+            return (int) World.class.getMethod("getMinHeight").invoke(world);
+        } catch (ReflectiveOperationException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Packs section coordinates into a long key.
+     *
+     * @param chunkX   Chunk x.
+     * @param sectionY Section y.
+     * @param chunkZ   Chunk z.
+     * @return Key.
+     */
+    private static long toKey(int chunkX, int sectionY, int chunkZ) {
+        return Pathfinder.pack(chunkX, sectionY, chunkZ);
+    }
+
+
+    private final UUID worldUID;
+    private final int minHeight;
+    private final int maxHeight;
+    private final Map<Long, WalkSection> sections;
+    private final AtomicLongArray stamps;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param world World.
+     */
+    public WalkabilityCache(@Nonnull World world) {
+        Validate.notNull(world, "world cannot be null!");
+        this.worldUID = world.getUID();
+        this.minHeight = WalkabilityCache.getMinHeight(world);
+        this.maxHeight = world.getMaxHeight();
+        this.sections = new ConcurrentHashMap<>();
+        this.stamps = new AtomicLongArray(STAMP_COUNT);
+    }
+
+    /**
+     * Gets world uid.
+     *
+     * @return World uid.
+     */
+    @Nonnull
+    public UUID getWorldUID() {
+        return this.worldUID;
+    }
+
+    /**
+     * Gets minimum height of world.
+     *
+     * @return Minimum height.
+     */
+    public int getMinHeight() {
+        return this.minHeight;
+    }
+
+    /**
+     * Gets maximum height of world.
+     *
+     * @return Maximum height.
+     */
+    public int getMaxHeight() {
+        return this.maxHeight;
+    }
+
+    /**
+     * Gets count of cached sections.
+     *
+     * @return Section count.
+     */
+    public int size() {
+        return this.sections.size();
+    }
+
+    /**
+     * Finds cached section.
+     *
+     * @param chunkX   Chunk x.
+     * @param sectionY Section y.
+     * @param chunkZ   Chunk z.
+     * @return Section, or null if it is not cached.
+     */
+    @Nullable
+    public WalkSection findSection(int chunkX, int sectionY, int chunkZ) {
+        return this.sections.get(WalkabilityCache.toKey(chunkX, sectionY, chunkZ));
+    }
+
+    /**
+     * Gets stamp of chunk column.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Stamp.
+     */
+    public long getStamp(int chunkX, int chunkZ) {
+        return this.stamps.get(this.stampIndex(chunkX, chunkZ));
+    }
+
+    /**
+     * Caches section if its chunk column
+     * did not change since given stamp.
+     *
+     * @param chunkX   Chunk x.
+     * @param sectionY Section y.
+     * @param chunkZ   Chunk z.
+     * @param section  Section.
+     * @param stamp    Stamp of chunk when it is captured.
+     * @return If section is cached, returns true.
+     */
+    public boolean putSection(int chunkX, int sectionY, int chunkZ, @Nonnull WalkSection section, long stamp) {
+        Validate.notNull(section, "section cannot be null!");
+
+        int stampIndex = this.stampIndex(chunkX, chunkZ);
+        if (this.stamps.get(stampIndex) != stamp)
+            return false;
+
+        long key = WalkabilityCache.toKey(chunkX, sectionY, chunkZ);
+        this.sections.put(key, section);
+        if (this.stamps.get(stampIndex) == stamp)
+            return true;
+
+        this.sections.remove(key, section);
+        return false;
+    }
+
+    /**
+     * Invalidates section of block.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     */
+    public void invalidate(int x, int y, int z) {
+        this.stamps.incrementAndGet(this.stampIndex(x >> 4, z >> 4));
+        this.sections.remove(WalkabilityCache.toKey(x >> 4, y >> 4, z >> 4));
+    }
+
+    /**
+     * Invalidates all sections of chunk.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     */
+    public void invalidateChunk(int chunkX, int chunkZ) {
+        this.stamps.incrementAndGet(this.stampIndex(chunkX, chunkZ));
+        for (int sectionY = this.minHeight >> 4; sectionY <= (this.maxHeight - 1) >> 4; sectionY++)
+            this.sections.remove(WalkabilityCache.toKey(chunkX, sectionY, chunkZ));
+    }
+
+    /**
+     * Gets stamp index of chunk column.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Stamp index.
+     */
+    private int stampIndex(int chunkX, int chunkZ) {
+        int hash = (chunkX * 31 + chunkZ) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (STAMP_COUNT - 1);
+    }
+}
@@ -1,14 +1,20 @@
 package com.hakan.core.renderer;
 
+import com.hakan.core.renderer.grid.GridEntry;
+import com.hakan.core.renderer.grid.RendererGrid;
+import com.hakan.core.utils.UUIDSet;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
@@ -22,11 +28,21 @@ public final class Renderer {
 
     private double radius;
     private boolean deleted;
+    private boolean registered;
     private boolean showEveryone;
     private boolean useYAxis;
     private Location location;
     private Set<UUID> viewers;
-    private Set<UUID> shownViewers;
+    private UUIDSet shownViewers;
+    private UUIDSet nextViewers;
+    private UUID indexedWorldUID;
+    private long indexedCell;
+
+    private double radiusSquared;
+    private List<Player> pendingShow;
+    private List<Player> pendingHide;
+    private final Consumer<GridEntry> showCollector = this::collectShown;
+    private final Consumer<UUID> hideCollector = this::collectHidden;
 
     private final Consumer<List<Player>> showConsumer;
     private final Consumer<List<Player>> hideConsumer;
@@ -53,7 +69,8 @@ public Renderer(@Nonnull Location location, double radius,
         this.hideConsumer = Validate.notNull(hideConsumer, "hide consumer cannot be null!");
         this.deleteConsumer = Validate.notNull(deleteConsumer, "delete consumer cannot be null!");
         this.radius = radius;
-        this.shownViewers = new HashSet<>();
+        this.shownViewers = new UUIDSet();
+        this.nextViewers = new UUIDSet();
         this.showEveryone = false;
         this.deleted = false;
         this.useYAxis = true;
@@ -94,6 +111,11 @@ public double getRadius() {
     @Nonnull
     public Renderer setRadius(double radius) {
         this.radius = radius;
+        synchronized (this) {
+            if (this.indexedWorldUID != null)
+                RendererHandler.index(this, this.indexedWorldUID, this.indexedCell);
+        }
+        this.markDirty();
         return this;
     }
 
@@ -117,6 +139,7 @@ public boolean isUseYAxis() {
     @Nonnull
     public Renderer setUseYAxis(boolean useYAxis) {
         this.useYAxis = useYAxis;
+        this.markDirty();
         return this;
     }
 
@@ -138,6 +161,7 @@ public boolean canEveryoneSee() {
     @Nonnull
     public Renderer showEveryone(boolean showEveryone) {
         this.showEveryone = showEveryone;
+        this.markDirty();
         return this;
     }
 
@@ -159,7 +183,16 @@ public Location getLocation() {
      */
     @Nonnull
     public Renderer setLocation(@Nonnull Location location) {
+        Location old = this.location;
         this.location = Validate.notNull(location, "location cannot be null!");
+
+        if (this.registered && !this.deleted) {
+            this.index();
+            if (old.getBlockX() != location.getBlockX()
+                    || old.getBlockY() != location.getBlockY()
+                    || old.getBlockZ() != location.getBlockZ())
+                this.markDirty();
+        }
         return this;
     }
 
@@ -169,8 +202,18 @@ public Renderer setLocation(@Nonnull Location location) {
      * @return Shown viewers.
      */
     @Nonnull
-    public Set<UUID> getShownViewers() {
-        return new HashSet<>(this.shownViewers);
+    public synchronized Set<UUID> getShownViewers() {
+        return this.shownViewers.toSet();
+    }
+
+    /**
+     * Checks if renderer is shown
+     * to any player.
+     *
+     * @return If renderer is shown to any player, returns true.
+     */
+    public synchronized boolean isShown() {
+        return !this.shownViewers.isEmpty();
     }
 
     /**
@@ -179,7 +222,7 @@ public Set<UUID> getShownViewers() {
      * @return Shown viewers as player list.
      */
     @Nonnull
-    public List<Player> getShownPlayers() {
+    public synchronized List<Player> getShownPlayers() {
         List<Player> players = new ArrayList<>();
         this.shownViewers.forEach(uid -> {
             Player player = Bukkit.getPlayer(uid);
@@ -207,6 +250,7 @@ public Set<UUID> getViewers() {
     @Nonnull
     public Renderer setViewers(@Nonnull Set<UUID> viewers) {
         this.viewers = Validate.notNull(viewers, "viewers cannot be null!");
+        this.markDirty();
         return this;
     }
 
@@ -221,6 +265,7 @@ public Renderer setViewers(@Nonnull List<Player> viewers) {
         this.viewers.clear();
         Validate.notNull(viewers, "viewers cannot be null!")
                 .forEach(this::addViewer);
+        this.markDirty();
         return this;
     }
 
@@ -233,6 +278,7 @@ public Renderer setViewers(@Nonnull List<Player> viewers) {
     @Nonnull
     public Renderer addViewer(@Nonnull UUID uid) {
         this.viewers.add(Validate.notNull(uid, "uid cannot be null!"));
+        this.markDirty();
         return this;
     }
 
@@ -245,6 +291,7 @@ public Renderer addViewer(@Nonnull UUID uid) {
     @Nonnull
     public Renderer removeViewer(@Nonnull UUID uid) {
         this.viewers.remove(Validate.notNull(uid, "uid cannot be null!"));
+        this.markDirty();
         return this;
     }
 
@@ -286,6 +333,13 @@ public Renderer delete() {
         if (this.deleteConsumer != null)
             this.deleteConsumer.accept(this);
         this.deleted = true;
+        RendererHandler.unregister(this);
+
+        synchronized (this) {
+            if (this.indexedWorldUID != null)
+                RendererHandler.unindex(this, this.indexedWorldUID, this.indexedCell);
+            this.indexedWorldUID = null;
+        }
         return this;
     }
 
@@ -300,11 +354,11 @@ public boolean canSee(@Nonnull UUID uid) {
         if (player == null)
             return false;
 
-        double distance = this.calculateDistance(player.getLocation());
+        double distance = this.calculateDistanceSquared(player.getLocation());
         if (distance == -1)
             return false;
 
-        return !(distance > this.radius);
+        return !(distance > this.radius * this.radius);
     }
 
     /**
@@ -321,9 +375,54 @@ public double calculateDistance(@Nonnull Location target) {
         if (!target.getWorld().equals(this.location.getWorld()))
             return -1;
 
-        double xDis = Math.pow(target.getX() - this.location.getX(), 2);
-        double zDis = Math.pow(target.getZ() - this.location.getZ(), 2);
-        return (this.useYAxis) ? Math.sqrt(xDis + Math.pow(target.getY() - this.location.getY(), 2) + zDis) : Math.sqrt(xDis + zDis);
+        double distance = this.calculateDistanceSquared(target);
+        return (distance == -1) ? -1 : Math.sqrt(distance);
+    }
+
+    /**
+     * Calculates squared distance
+     * between center and target.
+     *
+     * @param target Target location.
+     * @return Squared distance as double.
+     */
+    public double calculateDistanceSquared(@Nonnull Location target) {
+        Validate.notNull(target, "target location cannot be null!");
+        Validate.notNull(target.getWorld(), "target world cannot be null!");
+
+        if (!target.getWorld().equals(this.location.getWorld()))
+            return -1;
+
+        return this.calculateDistanceSquared(target.getX(), target.getY(), target.getZ());
+    }
+
+    /**
+     * Calculates squared distance
+     * between center and target
+     * coordinates.
+     *
+     * @param x Target x.
+     * @param y Target y.
+     * @param z Target z.
+     * @return Squared distance as double.
+     */
+    private double calculateDistanceSquared(double x, double y, double z) {
+        double xDis = x - this.location.getX();
+        double yDis = (this.useYAxis) ? y - this.location.getY() : 0;
+        double zDis = z - this.location.getZ();
+        return xDis * xDis + yDis * yDis + zDis * zDis;
+    }
+
+    /**
+     * Calculates squared distance
+     * between center and last known
+     * position of grid entry.
+     *
+     * @param entry Grid entry.
+     * @return Squared distance as double.
+     */
+    private double calculateDistanceSquared(@Nonnull GridEntry entry) {
+        return this.calculateDistanceSquared(entry.getX(), entry.getY(), entry.getZ());
     }
 
     /**
@@ -351,47 +450,147 @@ public Set<UUID> calculateViewers() {
      * @return This class.
      */
     @Nonnull
-    public Renderer render() {
+    public synchronized Renderer render() {
         if (this.deleted)
             return this;
+        if (!this.registered) {
+            RendererHandler.register(this);
+            this.registered = true;
+            this.index();
+        }
 
-        List<UUID> viewers = new ArrayList<>(this.calculateViewers());
-        List<UUID> oldShown = new ArrayList<>(this.shownViewers);
-        List<UUID> newShown = new ArrayList<>();
+        Location location = this.location;
+        this.radiusSquared = this.radius * this.radius;
+        this.nextViewers.clear();
 
-        viewers.forEach(uid -> {
-            if (this.canSee(uid))
-                newShown.add(uid);
-        });
+        RendererGrid grid = RendererHandler.findGrid(location.getWorld()).orElse(null);
+        if (grid != null)
+            grid.forEachNearby(location.getX(), location.getZ(), this.radius, this.showCollector);
+        this.shownViewers.forEach(this.hideCollector);
 
-        if (this.hideConsumer != null) {
-            List<Player> hide = new ArrayList<>();
+        UUIDSet shownViewers = this.shownViewers;
+        this.shownViewers = this.nextViewers;
+        this.nextViewers = shownViewers;
 
-            oldShown.forEach(uid -> {
-                if (!newShown.contains(uid)) {
-                    Player player = Bukkit.getPlayer(uid);
-                    if (player != null) hide.add(Bukkit.getPlayer(uid));
-                }
-            });
+        List<Player> hide = this.pendingHide;
+        List<Player> show = this.pendingShow;
+        this.pendingHide = null;
+        this.pendingShow = null;
 
-            if (hide.size() > 0)
-                this.hideConsumer.accept(hide);
-        }
+        if (hide != null && this.hideConsumer != null)
+            this.hideConsumer.accept(hide);
+        if (show != null && this.showConsumer != null)
+            this.showConsumer.accept(show);
 
-        if (this.showConsumer != null) {
-            List<Player> show = new ArrayList<>();
+        return this;
+    }
+
+    /**
+     * Renders only given player by
+     * its last known grid position.
+     *
+     * @param entry Grid entry of player.
+     * @return This class.
+     */
+    @Nonnull
+    public synchronized Renderer render(@Nonnull GridEntry entry) {
+        Validate.notNull(entry, "entry cannot be null!");
+        if (this.deleted)
+            return this;
 
-            newShown.forEach(uid -> {
-                if (!oldShown.contains(uid)) {
-                    show.add(Bukkit.getPlayer(uid));
-                }
-            });
+        UUID uid = entry.getUID();
+        boolean shown = this.shownViewers.contains(uid);
 
-            if (show.size() > 0)
-                this.showConsumer.accept(show);
+        if (entry.isRemoved()) {
+            if (shown) this.shownViewers.remove(uid);
+            return this;
+        }
+
+        World world = this.location.getWorld();
+        boolean visible = world != null && world.getUID().equals(entry.getWorldUID())
+                && (this.showEveryone || this.viewers.contains(uid))
+                && this.calculateDistanceSquared(entry) <= this.radius * this.radius;
+
+        if (visible && !shown) {
+            this.shownViewers.add(uid);
+            if (this.showConsumer != null)
+                this.showConsumer.accept(Collections.singletonList(entry.getPlayer()));
+        } else if (!visible && shown) {
+            this.shownViewers.remove(uid);
+            if (this.hideConsumer != null)
+                this.hideConsumer.accept(Collections.singletonList(entry.getPlayer()));
         }
 
-        this.shownViewers = new HashSet<>(newShown);
         return this;
     }
+
+    /**
+     * Collects grid entry into next
+     * viewers if it can see this renderer.
+     *
+     * @param entry Grid entry.
+     */
+    private void collectShown(@Nonnull GridEntry entry) {
+        UUID uid = entry.getUID();
+        if (!this.showEveryone && !this.viewers.contains(uid))
+            return;
+        if (this.calculateDistanceSquared(entry) > this.radiusSquared)
+            return;
+        if (!this.nextViewers.add(uid) || this.shownViewers.contains(uid))
+            return;
+
+        if (this.pendingShow == null)
+            this.pendingShow = new ArrayList<>();
+        this.pendingShow.add(entry.getPlayer());
+    }
+
+    /**
+     * Collects shown viewer to hide
+     * list if it is not in next viewers.
+     *
+     * @param uid UID of viewer.
+     */
+    private void collectHidden(@Nonnull UUID uid) {
+        if (this.nextViewers.contains(uid))
+            return;
+
+        Player player = Bukkit.getPlayer(uid);
+        if (player == null)
+            return;
+
+        if (this.pendingHide == null)
+            this.pendingHide = new ArrayList<>();
+        this.pendingHide.add(player);
+    }
+
+    /**
+     * Marks this renderer to be
+     * rendered in next tick if it
+     * is in the render loop.
+     */
+    private void markDirty() {
+        if (this.registered && !this.deleted)
+            RendererHandler.markDirty(this);
+    }
+
+    /**
+     * Moves this renderer to the
+     * grid cell of its location.
+     */
+    private synchronized void index() {
+        World world = this.location.getWorld();
+        UUID worldUID = (world != null) ? world.getUID() : null;
+        long cell = RendererGrid.toCell(this.location.getX(), this.location.getZ());
+
+        if (Objects.equals(worldUID, this.indexedWorldUID) && cell == this.indexedCell)
+            return;
+
+        if (this.indexedWorldUID != null)
+            RendererHandler.unindex(this, this.indexedWorldUID, this.indexedCell);
+        if (worldUID != null)
+            RendererHandler.index(this, worldUID, cell);
+
+        this.indexedWorldUID = worldUID;
+        this.indexedCell = cell;
+    }
 }
@@ -0,0 +1,348 @@
+package com.hakan.core.renderer;
+
+import com.hakan.core.HCore;
+import com.hakan.core.packet.PacketHandler;
+import com.hakan.core.packet.batch.PacketBatch;
+import com.hakan.core.renderer.grid.GridEntry;
+import com.hakan.core.renderer.grid.RendererGrid;
+import com.hakan.core.utils.Registry;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * RendererHandler class to keep
+ * shared player grids of worlds
+ * and render all renderers.
+ * <p>
+ * Renderers are re-evaluated when
+ * a player crosses a block, teleports,
+ * changes world, joins or quits. A full
+ * sweep still runs periodically as a
+ * safety net.
+ */
+public final class RendererHandler {
+
+    private static final long SWEEP_INTERVAL = 100;
+
+    private static final Set<Renderer> renderers = ConcurrentHashMap.newKeySet();
+    private static final Set<Renderer> dirtyRenderers = ConcurrentHashMap.newKeySet();
+    private static final Registry<Player, Location> movedPlayers = new Registry<>();
+    private static final Registry<UUID, RendererGrid> grids = new Registry<>();
+    private static final Registry<UUID, GridEntry> entries = new Registry<>();
+
+
+    /**
+     * Initializes the renderer system.
+     */
+    public static void initialize() {
+        HCore.registerEvent(PlayerJoinEvent.class)
+                .consume(event -> RendererHandler.markMoved(event.getPlayer(), event.getPlayer().getLocation()));
+        HCore.registerEvent(PlayerQuitEvent.class)
+                .consume(event -> RendererHandler.removePlayer(event.getPlayer()));
+        HCore.registerEvent(PlayerChangedWorldEvent.class)
+                .consume(event -> RendererHandler.markMoved(event.getPlayer(), event.getPlayer().getLocation()));
+        HCore.registerEvent(PlayerTeleportEvent.class)
+                .filter(event -> !event.isCancelled() && event.getTo() != null)
+                .consume(event -> RendererHandler.markMoved(event.getPlayer(), event.getTo()));
+        HCore.registerEvent(PlayerMoveEvent.class)
+                .filter(event -> !event.isCancelled() && event.getTo() != null)
+                .filter(event -> RendererHandler.isBlockChanged(event.getFrom(), event.getTo()))
+                .consume(event -> RendererHandler.markMoved(event.getPlayer(), event.getTo()));
+
+        HCore.asyncScheduler().every(1)
+                .freezeIf((task) -> movedPlayers.isEmpty() && dirtyRenderers.isEmpty())
+                .run(RendererHandler::processChanges);
+        HCore.asyncScheduler().every(SWEEP_INTERVAL)
+                .freezeIf((task) -> renderers.isEmpty())
+                .run(RendererHandler::renderAll);
+    }
+
+
+    /**
+     * Gets registered renderers.
+     *
+     * @return Renderers.
+     */
+    @Nonnull
+    public static Collection<Renderer> getValues() {
+        return renderers;
+    }
+
+    /**
+     * Registers renderer to
+     * render loop.
+     *
+     * @param renderer Renderer.
+     */
+    public static void register(@Nonnull Renderer renderer) {
+        renderers.add(Validate.notNull(renderer, "renderer cannot be null!"));
+    }
+
+    /**
+     * Unregisters renderer
+     * from render loop.
+     *
+     * @param renderer Renderer.
+     */
+    public static void unregister(@Nonnull Renderer renderer) {
+        renderers.remove(Validate.notNull(renderer, "renderer cannot be null!"));
+        dirtyRenderers.remove(renderer);
+    }
+
+    /**
+     * Marks renderer to be
+     * rendered in next tick.
+     *
+     * @param renderer Renderer.
+     */
+    public static void markDirty(@Nonnull Renderer renderer) {
+        Validate.notNull(renderer, "renderer cannot be null!");
+        dirtyRenderers.add(renderer);
+    }
+
+    /**
+     * Marks player to be re-evaluated
+     * by renderers around it in next tick.
+     *
+     * @param player   Player.
+     * @param location New location of player.
+     */
+    public static void markMoved(@Nonnull Player player, @Nonnull Location location) {
+        Validate.notNull(player, "player cannot be null!");
+        Validate.notNull(location, "location cannot be null!");
+        movedPlayers.put(player, location.clone());
+    }
+
+    /**
+     * Finds grid of world.
+     *
+     * @param world World.
+     * @return Grid as optional.
+     */
+    @Nonnull
+    public static Optional<RendererGrid> findGrid(@Nullable World world) {
+        return (world != null) ? Optional.ofNullable(grids.get(world.getUID())) : Optional.empty();
+    }
+
+    /**
+     * Updates position of player
+     * in the grid of its world.
+     *
+     * @param player Player.
+     */
+    public static void updatePlayer(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+        RendererHandler.updatePlayer(player, player.getLocation());
+    }
+
+    /**
+     * Updates position of player
+     * in the grid of its world.
+     *
+     * @param player   Player.
+     * @param location Location of player.
+     * @return Grid entry of player.
+     */
+    @Nullable
+    public static GridEntry updatePlayer(@Nonnull Player player, @Nonnull Location location) {
+        Validate.notNull(player, "player cannot be null!");
+        Validate.notNull(location, "location cannot be null!");
+
+        World world = location.getWorld();
+        if (world == null)
+            return null;
+
+        UUID worldUID = world.getUID();
+        long cell = RendererGrid.toCell(location.getX(), location.getZ());
+
+        GridEntry entry = entries.get(player.getUniqueId());
+        if (entry != null && entry.getPlayer() != player)
+            RendererHandler.removePlayer(player);
+        entry = entries.computeIfAbsent(player.getUniqueId(), uid -> new GridEntry(player));
+
+        synchronized (entry) {
+            UUID oldWorldUID = entry.getWorldUID();
+            if (worldUID.equals(oldWorldUID) && cell == entry.getCell()) {
+                entry.setPosition(worldUID, cell, location.getX(), location.getY(), location.getZ());
+                return entry;
+            }
+
+            if (oldWorldUID != null) {
+                RendererGrid oldGrid = grids.get(oldWorldUID);
+                if (oldGrid != null) oldGrid.remove(entry);
+            }
+
+            entry.setPosition(worldUID, cell, location.getX(), location.getY(), location.getZ());
+            grids.computeIfAbsent(worldUID, RendererGrid::new).add(entry);
+        }
+
+        return entry;
+    }
+
+    /**
+     * Removes player from grids
+     * and from shown viewers of
+     * renderers around it.
+     *
+     * @param player Player.
+     */
+    public static void removePlayer(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+
+        GridEntry entry = entries.remove(player.getUniqueId());
+        if (entry == null || entry.getWorldUID() == null)
+            return;
+
+        synchronized (entry) {
+            entry.markRemoved();
+
+            RendererGrid grid = grids.get(entry.getWorldUID());
+            if (grid != null) grid.remove(entry);
+        }
+
+        RendererHandler.forEachRendererNearby(entry.getWorldUID(), entry.getX(), entry.getZ(),
+                renderer -> renderer.render(entry));
+    }
+
+    /**
+     * Updates positions of all
+     * online players and removes
+     * offline ones from grids.
+     */
+    public static void refresh() {
+        Bukkit.getOnlinePlayers().forEach(RendererHandler::updatePlayer);
+
+        for (GridEntry entry : entries.values()) {
+            if (!entry.getPlayer().isOnline())
+                RendererHandler.removePlayer(entry.getPlayer());
+        }
+    }
+
+    /**
+     * Refreshes grids and renders
+     * all registered renderers.
+     */
+    public static void renderAll() {
+        RendererHandler.refresh();
+        try (PacketBatch ignored = PacketHandler.batch()) {
+            renderers.forEach(Renderer::render);
+        }
+    }
+
+    /**
+     * Processes moved players and
+     * dirty renderers since last tick.
+     */
+    public static void processChanges() {
+        try (PacketBatch ignored = PacketHandler.batch()) {
+            for (Player player : movedPlayers.keySet()) {
+                Location location = movedPlayers.remove(player);
+                if (location != null && player.isOnline())
+                    RendererHandler.movePlayer(player, location);
+            }
+
+            for (Renderer renderer : dirtyRenderers) {
+                if (dirtyRenderers.remove(renderer))
+                    renderer.render();
+            }
+        }
+    }
+
+
+    /**
+     * Adds renderer to grid cell.
+     *
+     * @param renderer Renderer.
+     * @param worldUID World uid.
+     * @param cell     Cell key.
+     */
+    static void index(@Nonnull Renderer renderer, @Nonnull UUID worldUID, long cell) {
+        grids.computeIfAbsent(worldUID, RendererGrid::new).addRenderer(renderer, cell);
+    }
+
+    /**
+     * Removes renderer from grid cell.
+     *
+     * @param renderer Renderer.
+     * @param worldUID World uid.
+     * @param cell     Cell key.
+     */
+    static void unindex(@Nonnull Renderer renderer, @Nonnull UUID worldUID, long cell) {
+        RendererGrid grid = grids.get(worldUID);
+        if (grid != null) grid.removeRenderer(renderer, cell);
+    }
+
+    /**
+     * Moves player in grid and
+     * re-evaluates renderers around
+     * old and new positions.
+     *
+     * @param player   Player.
+     * @param location New location.
+     */
+    private static void movePlayer(@Nonnull Player player, @Nonnull Location location) {
+        GridEntry old = entries.get(player.getUniqueId());
+        UUID oldWorldUID = (old != null) ? old.getWorldUID() : null;
+        double oldX = (old != null) ? old.getX() : 0;
+        double oldZ = (old != null) ? old.getZ() : 0;
+
+        GridEntry entry = RendererHandler.updatePlayer(player, location);
+        if (entry == null)
+            return;
+
+        Set<Renderer> nearby = new HashSet<>();
+        if (oldWorldUID != null)
+            RendererHandler.forEachRendererNearby(oldWorldUID, oldX, oldZ, nearby::add);
+        RendererHandler.forEachRendererNearby(entry.getWorldUID(), entry.getX(), entry.getZ(), nearby::add);
+        nearby.forEach(renderer -> renderer.render(entry));
+    }
+
+    /**
+     * Calls consumer for every renderer
+     * which may contain given position
+     * in its radius.
+     *
+     * @param worldUID World uid.
+     * @param x        X coordinate.
+     * @param z        Z coordinate.
+     * @param consumer Consumer.
+     */
+    private static void forEachRendererNearby(@Nullable UUID worldUID, double x, double z, @Nonnull Consumer<Renderer> consumer) {
+        RendererGrid grid = (worldUID != null) ? grids.get(worldUID) : null;
+        if (grid != null) grid.forEachRendererNearby(x, z, grid.getMaxRadius() + 1, consumer);
+    }
+
+    /**
+     * Checks if block position
+     * or world is changed.
+     *
+     * @param from From location.
+     * @param to   To location.
+     * @return If block is changed, returns true.
+     */
+    private static boolean isBlockChanged(@Nonnull Location from, @Nonnull Location to) {
+        return from.getBlockX() != to.getBlockX()
+                || from.getBlockY() != to.getBlockY()
+                || from.getBlockZ() != to.getBlockZ()
+                || !Objects.equals(from.getWorld(), to.getWorld());
+    }
+}
@@ -0,0 +1,137 @@
+package com.hakan.core.renderer.grid;
+
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.UUID;
+
+/**
+ * GridEntry class to keep
+ * last known position of a
+ * player in renderer grid.
+ */
+public final class GridEntry {
+
+    private final UUID uid;
+    private final Player player;
+
+    private volatile boolean removed;
+    private volatile UUID worldUID;
+    private volatile long cell;
+    private volatile double x;
+    private volatile double y;
+    private volatile double z;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param player Player.
+     */
+    public GridEntry(@Nonnull Player player) {
+        this.player = Validate.notNull(player, "player cannot be null!");
+        this.uid = player.getUniqueId();
+    }
+
+    /**
+     * Gets uid of player.
+     *
+     * @return UID of player.
+     */
+    @Nonnull
+    public UUID getUID() {
+        return this.uid;
+    }
+
+    /**
+     * Gets player.
+     *
+     * @return Player.
+     */
+    @Nonnull
+    public Player getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Checks if entry is removed
+     * from the grid.
+     *
+     * @return If entry is removed, returns true.
+     */
+    public boolean isRemoved() {
+        return this.removed;
+    }
+
+    /**
+     * Marks entry as removed.
+     */
+    public void markRemoved() {
+        this.removed = true;
+    }
+
+    /**
+     * Gets uid of world that
+     * player is in.
+     *
+     * @return UID of world.
+     */
+    @Nullable
+    public UUID getWorldUID() {
+        return this.worldUID;
+    }
+
+    /**
+     * Gets cell key of player.
+     *
+     * @return Cell key.
+     */
+    public long getCell() {
+        return this.cell;
+    }
+
+    /**
+     * Gets x coordinate.
+     *
+     * @return X coordinate.
+     */
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * Gets y coordinate.
+     *
+     * @return Y coordinate.
+     */
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * Gets z coordinate.
+     *
+     * @return Z coordinate.
+     */
+    public double getZ() {
+        return this.z;
+    }
+
+    /**
+     * Sets position of player.
+     *
+     * @param worldUID World uid.
+     * @param cell     Cell key.
+     * @param x        X coordinate.
+     * @param y        Y coordinate.
+     * @param z        Z coordinate.
+     */
+    public void setPosition(@Nonnull UUID worldUID, long cell, double x, double y, double z) {
+        this.worldUID = Validate.notNull(worldUID, "world uid cannot be null!");
+        this.cell = cell;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+}
@@ -0,0 +1,253 @@
+package com.hakan.core.renderer.grid;
+
+import com.hakan.core.renderer.Renderer;
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * RendererGrid class to index
+ * players and renderers of a world
+ * by chunk columns. Renderers only
+ * check players in cells which overlap
+ * their radius, and moved players only
+ * re-evaluate renderers around them.
+ */
+public final class RendererGrid {
+
+    private static final double MAX_RADIUS = 30_000_000;
+
+    /**
+     * Converts chunk coordinates
+     * to a cell key.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Cell key.
+     */
+    public static long toCell(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Converts block coordinates
+     * to a cell key.
+     *
+     * @param x X coordinate.
+     * @param z Z coordinate.
+     * @return Cell key.
+     */
+    public static long toCell(double x, double z) {
+        return RendererGrid.toCell((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4);
+    }
+
+    /**
+     * Calls consumer for every value
+     * in cells which overlap given
+     * square area.
+     *
+     * @param cells    Cells.
+     * @param x        Center x.
+     * @param z        Center z.
+     * @param radius   Radius.
+     * @param consumer Consumer.
+     * @param <T>      Value type.
+     */
+    private static <T> void forEachCell(@Nonnull Map<Long, Set<T>> cells,
+                                        double x, double z, double radius,
+                                        @Nonnull Consumer<T> consumer) {
+        if (cells.isEmpty())
+            return;
+
+        radius = Math.max(0, Math.min(radius, MAX_RADIUS));
+        int minX = (int) Math.floor(x - radius) >> 4;
+        int minZ = (int) Math.floor(z - radius) >> 4;
+        int maxX = (int) Math.floor(x + radius) >> 4;
+        int maxZ = (int) Math.floor(z + radius) >> 4;
+
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > cells.size()) {
+            for (Map.Entry<Long, Set<T>> entry : cells.entrySet()) {
+                long cell = entry.getKey();
+                int chunkX = (int) (cell >> 32), chunkZ = (int) cell;
+                if (chunkX >= minX && chunkX <= maxX && chunkZ >= minZ && chunkZ <= maxZ)
+                    entry.getValue().forEach(consumer);
+            }
+            return;
+        }
+
+        for (int chunkX = minX; chunkX <= maxX; chunkX++) {
+            for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++) {
+                Set<T> values = cells.get(RendererGrid.toCell(chunkX, chunkZ));
+                if (values != null) values.forEach(consumer);
+            }
+        }
+    }
+
+
+    private final UUID worldUID;
+    private final Map<Long, Set<GridEntry>> cells;
+    private final Map<Long, Set<Renderer>> rendererCells;
+    private final Map<Renderer, Double> radii;
+    private final TreeMap<Double, Integer> radiusCounts;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param worldUID World uid.
+     */
+    public RendererGrid(@Nonnull UUID worldUID) {
+        this.worldUID = Validate.notNull(worldUID, "world uid cannot be null!");
+        this.cells = new ConcurrentHashMap<>();
+        this.rendererCells = new ConcurrentHashMap<>();
+        this.radii = new HashMap<>();
+        this.radiusCounts = new TreeMap<>();
+    }
+
+    /**
+     * Gets uid of world.
+     *
+     * @return UID of world.
+     */
+    @Nonnull
+    public UUID getWorldUID() {
+        return this.worldUID;
+    }
+
+    /**
+     * Checks if grid has no player
+     * and no renderer.
+     *
+     * @return If grid is empty, returns true.
+     */
+    public boolean isEmpty() {
+        return this.cells.isEmpty() && this.rendererCells.isEmpty();
+    }
+
+    /**
+     * Adds entry to its cell.
+     *
+     * @param entry Entry.
+     */
+    public void add(@Nonnull GridEntry entry) {
+        Validate.notNull(entry, "entry cannot be null!");
+        this.cells.compute(entry.getCell(), (cell, entries) -> {
+            entries = (entries != null) ? entries : ConcurrentHashMap.newKeySet();
+            entries.add(entry);
+            return entries;
+        });
+    }
+
+    /**
+     * Removes entry from its cell.
+     *
+     * @param entry Entry.
+     */
+    public void remove(@Nonnull GridEntry entry) {
+        Validate.notNull(entry, "entry cannot be null!");
+        this.cells.computeIfPresent(entry.getCell(), (cell, entries) -> {
+            entries.remove(entry);
+            return entries.isEmpty() ? null : entries;
+        });
+    }
+
+    /**
+     * Calls consumer for every entry
+     * in cells which overlap given
+     * square area.
+     *
+     * @param x        Center x.
+     * @param z        Center z.
+     * @param radius   Radius.
+     * @param consumer Consumer.
+     */
+    public void forEachNearby(double x, double z, double radius, @Nonnull Consumer<GridEntry> consumer) {
+        Validate.notNull(consumer, "consumer cannot be null!");
+        RendererGrid.forEachCell(this.cells, x, z, radius, consumer);
+    }
+
+    /**
+     * Gets biggest radius of renderers
+     * in this grid. It shrinks when
+     * renderers are removed.
+     *
+     * @return Biggest radius.
+     */
+    public synchronized double getMaxRadius() {
+        return (this.radiusCounts.isEmpty()) ?
+                0 :
+                this.radiusCounts.lastKey();
+    }
+
+    /**
+     * Adds renderer to given cell. If
+     * renderer is already in the cell,
+     * only its radius is updated.
+     *
+     * @param renderer Renderer.
+     * @param cell     Cell key.
+     */
+    public void addRenderer(@Nonnull Renderer renderer, long cell) {
+        Validate.notNull(renderer, "renderer cannot be null!");
+        this.trackRadius(renderer, renderer.getRadius());
+        this.rendererCells.compute(cell, (key, renderers) -> {
+            renderers = (renderers != null) ? renderers : ConcurrentHashMap.newKeySet();
+            renderers.add(renderer);
+            return renderers;
+        });
+    }
+
+    /**
+     * Removes renderer from given cell.
+     *
+     * @param renderer Renderer.
+     * @param cell     Cell key.
+     */
+    public void removeRenderer(@Nonnull Renderer renderer, long cell) {
+        Validate.notNull(renderer, "renderer cannot be null!");
+        this.trackRadius(renderer, null);
+        this.rendererCells.computeIfPresent(cell, (key, renderers) -> {
+            renderers.remove(renderer);
+            return renderers.isEmpty() ? null : renderers;
+        });
+    }
+
+    /**
+     * Calls consumer for every renderer
+     * in cells which overlap given
+     * square area.
+     *
+     * @param x        Center x.
+     * @param z        Center z.
+     * @param radius   Radius.
+     * @param consumer Consumer.
+     */
+    public void forEachRendererNearby(double x, double z, double radius, @Nonnull Consumer<Renderer> consumer) {
+        Validate.notNull(consumer, "consumer cannot be null!");
+        RendererGrid.forEachCell(this.rendererCells, x, z, radius, consumer);
+    }
+
+    /**
+     * Updates radius of renderer
+     * in radius counts.
+     *
+     * @param renderer Renderer.
+     * @param radius   New radius, or null to remove.
+     */
+    private synchronized void trackRadius(@Nonnull Renderer renderer, @Nullable Double radius) {
+        Double old = (radius != null) ?
+                this.radii.put(renderer, radius) :
+                this.radii.remove(renderer);
+        if (old != null)
+            this.radiusCounts.computeIfPresent(old, (key, count) -> (count > 1) ? count - 1 : null);
+        if (radius != null)
+            this.radiusCounts.merge(radius, 1, Integer::sum);
+    }
+}
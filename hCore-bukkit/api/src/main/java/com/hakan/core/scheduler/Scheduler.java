@@ -7,6 +7,7 @@
 import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -24,6 +25,7 @@ public final class Scheduler {
     private Runnable endRunnable;
     private Runnable startRunnable;
     private SchedulerRunnable task;
+    private Executor executor;
 
     private boolean async;
 
@@ -85,6 +87,20 @@ public Scheduler async(boolean async) {
         return this;
     }
 
+    /**
+     * Sets executor of scheduler. Async
+     * runs are passed to it instead of
+     * executor of plugin.
+     *
+     * @param executor Executor.
+     * @return This class.
+     */
+    @Nonnull
+    public Scheduler executor(@Nonnull Executor executor) {
+        this.executor = Validate.notNull(executor, "executor cannot be null!");
+        return this;
+    }
+
     /**
      * Sets scheduler start and end
      * count. Then scheduler will be
@@ -291,7 +307,7 @@ public synchronized Scheduler run(@Nonnull Consumer<SchedulerRunnable> consumer)
     public synchronized Scheduler run(@Nonnull BiConsumer<SchedulerRunnable, Long> consumer) {
         Validate.notNull(consumer, "consumer cannot be null!");
 
-        this.task = new SchedulerRunnable(this.plugin).whenProcessed(() -> {
+        this.task = new SchedulerRunnable(this.plugin).executor(this.executor).whenProcessed(() -> {
             for (Function<SchedulerRunnable, Boolean> freezeFilter : this.freezeFilters) {
                 if (freezeFilter.apply(this.task)) {
                     return;
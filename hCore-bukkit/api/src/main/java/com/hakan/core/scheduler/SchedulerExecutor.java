@@ -0,0 +1,268 @@
+package com.hakan.core.scheduler;
+
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SchedulerExecutor class to run async
+ * schedulers. It wraps an executor service
+ * and keeps queue depth and task counts
+ * of it, so load of each plugin can be
+ * watched separately.
+ */
+public final class SchedulerExecutor implements Executor {
+
+    private static final Method VIRTUAL_METHOD = SchedulerExecutor.findVirtualMethod();
+
+    /**
+     * Checks if virtual threads are
+     * supported by current java version.
+     *
+     * @return If virtual threads are supported, returns true.
+     */
+    public static boolean isVirtualSupported() {
+        return VIRTUAL_METHOD != null;
+    }
+
+    /**
+     * Creates executor that runs tasks on
+     * a bounded work stealing pool.
+     *
+     * @param name        Name of executor.
+     * @param parallelism Maximum count of threads.
+     * @return Scheduler executor.
+     */
+    @Nonnull
+    public static SchedulerExecutor workStealing(@Nonnull String name, int parallelism) {
+        Validate.notNull(name, "name cannot be null!");
+        Validate.isTrue(parallelism <= 0, "parallelism must be greater than 0!");
+
+        ClassLoader classLoader = SchedulerExecutor.class.getClassLoader();
+        AtomicInteger counter = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName(name + " #" + counter.incrementAndGet());
+            thread.setContextClassLoader(classLoader);
+            thread.setDaemon(true);
+            return thread;
+        }, null, true);
+
+        return new SchedulerExecutor(name, pool);
+    }
+
+    /**
+     * Creates executor that runs each
+     * task on a new virtual thread. If
+     * virtual threads are not supported,
+     * it creates work stealing executor.
+     *
+     * @param name Name of executor.
+     * @return Scheduler executor.
+     */
+    @Nonnull
+    public static SchedulerExecutor virtual(@Nonnull String name) {
+        Validate.notNull(name, "name cannot be null!");
+
+        if (VIRTUAL_METHOD != null) {
+            try {
+                return new SchedulerExecutor(name, (ExecutorService) VIRTUAL_METHOD.invoke(null));
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        return SchedulerExecutor.workStealing(name, SchedulerExecutor.getDefaultParallelism());
+    }
+
+    /**
+     * Creates default executor, which
+     * is bounded work stealing executor.
+     *
+     * @param name Name of executor.
+     * @return Scheduler executor.
+     */
+    @Nonnull
+    public static SchedulerExecutor createDefault(@Nonnull String name) {
+        return SchedulerExecutor.workStealing(name, SchedulerExecutor.getDefaultParallelism());
+    }
+
+    /**
+     * Creates executor that wraps
+     * given executor service.
+     *
+     * @param name    Name of executor.
+     * @param service Executor service.
+     * @return Scheduler executor.
+     */
+    @Nonnull
+    public static SchedulerExecutor of(@Nonnull String name, @Nonnull ExecutorService service) {
+        return new SchedulerExecutor(name, service);
+    }
+
+    /**
+     * Gets default parallelism of
+     * work stealing executors.
+     *
+     * @return Parallelism.
+     */
+    public static int getDefaultParallelism() {
+        return Math.max(4, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Finds factory method of virtual thread
+     * executor. Build targets java 8, so it
+     * is looked up at runtime.
+     *
+     * @return Method, or null if it does not exist.
+     */
+    @Nullable
+    private static Method findVirtualMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+
+    private final String name;
+    private final ExecutorService service;
+    private final AtomicInteger queued;
+    private final AtomicInteger active;
+    private final AtomicLong completed;
+    private final AtomicLong failed;
+    private final AtomicLong rejected;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param name    Name of executor.
+     * @param service Executor service.
+     */
+    private SchedulerExecutor(@Nonnull String name, @Nonnull ExecutorService service) {
+        this.name = Validate.notNull(name, "name cannot be null!");
+        this.service = Validate.notNull(service, "service cannot be null!");
+        this.queued = new AtomicInteger();
+        this.active = new AtomicInteger();
+        this.completed = new AtomicLong();
+        this.failed = new AtomicLong();
+        this.rejected = new AtomicLong();
+    }
+
+    /**
+     * Gets name of executor.
+     *
+     * @return Name.
+     */
+    @Nonnull
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets count of tasks that
+     * are waiting to be started.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueSize() {
+        return this.queued.get();
+    }
+
+    /**
+     * Gets count of tasks
+     * that are running.
+     *
+     * @return Active count.
+     */
+    public int getActiveCount() {
+        return this.active.get();
+    }
+
+    /**
+     * Gets count of tasks
+     * that are completed.
+     *
+     * @return Completed count.
+     */
+    public long getCompletedCount() {
+        return this.completed.get();
+    }
+
+    /**
+     * Gets count of tasks that
+     * threw an exception.
+     *
+     * @return Failed count.
+     */
+    public long getFailedCount() {
+        return this.failed.get();
+    }
+
+    /**
+     * Gets count of tasks that are
+     * rejected after shutdown.
+     *
+     * @return Rejected count.
+     */
+    public long getRejectedCount() {
+        return this.rejected.get();
+    }
+
+    /**
+     * Checks if executor is shut down.
+     *
+     * @return If executor is shut down, returns true.
+     */
+    public boolean isShutdown() {
+        return this.service.isShutdown();
+    }
+
+    /**
+     * Shuts down executor. Queued
+     * tasks are still completed.
+     */
+    public void shutdown() {
+        this.service.shutdown();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(@Nonnull Runnable runnable) {
+        Validate.notNull(runnable, "runnable cannot be null!");
+
+        this.queued.incrementAndGet();
+        try {
+            this.service.execute(() -> {
+                this.queued.decrementAndGet();
+                this.active.incrementAndGet();
+                try {
+                    runnable.run();
+                } catch (Throwable e) {
+                    this.failed.incrementAndGet();
+                    e.printStackTrace();
+                } finally {
+                    this.active.decrementAndGet();
+                    this.completed.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.queued.decrementAndGet();
+            this.rejected.incrementAndGet();
+            throw e;
+        }
+    }
+}
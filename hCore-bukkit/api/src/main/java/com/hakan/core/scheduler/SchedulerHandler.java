@@ -0,0 +1,275 @@
+package com.hakan.core.scheduler;
+
+import com.hakan.core.HCore;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Bukkit;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SchedulerHandler class to run all
+ * schedulers of hCore on two timing wheels.
+ * Sync wheel is moved by one repeating bukkit
+ * task and async wheel is moved by one timer
+ * thread, so schedulers do not create bukkit
+ * tasks for themselves. Due async tasks are
+ * run on executor of their plugin, and tasks
+ * of a plugin are cancelled when it disables.
+ */
+public final class SchedulerHandler {
+
+    private static final long TICK_MILLIS = 50;
+    private static final TimingWheel syncWheel = new TimingWheel(SchedulerHandler::execute);
+    private static final TimingWheel asyncWheel = new TimingWheel(SchedulerHandler::execute);
+    private static final Map<JavaPlugin, SchedulerExecutor> executors = new ConcurrentHashMap<>();
+    private static final Map<JavaPlugin, Set<TimingWheel.Timeout>> timeouts = new ConcurrentHashMap<>();
+
+    private static int syncTaskId = -1;
+    private static ScheduledExecutorService timer;
+
+    /**
+     * Initializes the scheduler system.
+     */
+    public static void initialize() {
+        SchedulerHandler.start(HCore.getInstance());
+
+        HCore.registerEvent(PluginDisableEvent.class)
+                .consume(event -> {
+                    if (event.getPlugin().equals(HCore.getInstance()))
+                        SchedulerHandler.shutdown();
+                    else if (event.getPlugin() instanceof JavaPlugin)
+                        SchedulerHandler.release((JavaPlugin) event.getPlugin());
+                });
+    }
+
+    /**
+     * Starts sync and async drivers if
+     * they are not started yet.
+     *
+     * @param plugin Plugin to own sync driver.
+     */
+    public static synchronized void start(@Nonnull JavaPlugin plugin) {
+        Validate.notNull(plugin, "plugin cannot be null!");
+
+        if (syncTaskId == -1 || !Bukkit.getScheduler().isQueued(syncTaskId))
+            syncTaskId = Bukkit.getScheduler().runTaskTimer(plugin, syncWheel::advance, 1, 1).getTaskId();
+
+        if (timer == null) {
+            timer = Executors.newSingleThreadScheduledExecutor(SchedulerHandler.createFactory("hCore Scheduler Timer"));
+            timer.scheduleAtFixedRate(asyncWheel::advance, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops drivers and removes
+     * all scheduled tasks.
+     */
+    public static synchronized void shutdown() {
+        if (syncTaskId != -1)
+            Bukkit.getScheduler().cancelTask(syncTaskId);
+        if (timer != null)
+            timer.shutdownNow();
+
+        executors.values().forEach(SchedulerExecutor::shutdown);
+        executors.clear();
+        timeouts.clear();
+        syncWheel.clear();
+        asyncWheel.clear();
+        syncTaskId = -1;
+        timer = null;
+    }
+
+    /**
+     * Gets executors of plugins as safe.
+     *
+     * @return Executors by plugin.
+     */
+    @Nonnull
+    public static Map<JavaPlugin, SchedulerExecutor> getExecutors() {
+        return new HashMap<>(executors);
+    }
+
+    /**
+     * Gets async executor of plugin,
+     * creates default one if plugin
+     * does not have any.
+     *
+     * @param plugin Plugin.
+     * @return Scheduler executor.
+     */
+    @Nonnull
+    public static SchedulerExecutor getExecutor(@Nonnull JavaPlugin plugin) {
+        Validate.notNull(plugin, "plugin cannot be null!");
+        return executors.computeIfAbsent(plugin, key -> SchedulerExecutor.createDefault("hCore Scheduler " + key.getName()));
+    }
+
+    /**
+     * Sets async executor of plugin. Previous
+     * executor is shut down after its queued
+     * tasks are completed.
+     *
+     * @param plugin   Plugin.
+     * @param executor Scheduler executor.
+     */
+    public static void setExecutor(@Nonnull JavaPlugin plugin, @Nonnull SchedulerExecutor executor) {
+        Validate.notNull(plugin, "plugin cannot be null!");
+        Validate.notNull(executor, "executor cannot be null!");
+
+        SchedulerExecutor previous = executors.put(plugin, executor);
+        if (previous != null && previous != executor)
+            previous.shutdown();
+    }
+
+    /**
+     * Removes async executor of plugin
+     * and shuts it down.
+     *
+     * @param plugin Plugin.
+     */
+    public static void removeExecutor(@Nonnull JavaPlugin plugin) {
+        Validate.notNull(plugin, "plugin cannot be null!");
+
+        SchedulerExecutor executor = executors.remove(plugin);
+        if (executor != null)
+            executor.shutdown();
+    }
+
+    /**
+     * Cancels all tasks of plugin
+     * and removes its executor.
+     *
+     * @param plugin Plugin.
+     */
+    public static void release(@Nonnull JavaPlugin plugin) {
+        Validate.notNull(plugin, "plugin cannot be null!");
+
+        Set<TimingWheel.Timeout> owned = timeouts.remove(plugin);
+        if (owned != null)
+            owned.forEach(TimingWheel.Timeout::cancel);
+        SchedulerHandler.removeExecutor(plugin);
+    }
+
+    /**
+     * Gets count of scheduled sync tasks.
+     *
+     * @return Task count.
+     */
+    public static int getSyncTaskCount() {
+        return syncWheel.size();
+    }
+
+    /**
+     * Gets count of scheduled async tasks.
+     *
+     * @return Task count.
+     */
+    public static int getAsyncTaskCount() {
+        return asyncWheel.size();
+    }
+
+    /**
+     * Schedules task to wheel. Drivers
+     * are started with given plugin if
+     * hCore is not initialized.
+     *
+     * @param plugin Plugin.
+     * @param async  Is task async.
+     * @param task   Task.
+     * @param delay  Delay as tick.
+     * @param period Period as tick, or -1 to run once.
+     * @return Timeout.
+     */
+    @Nonnull
+    static TimingWheel.Timeout schedule(@Nonnull JavaPlugin plugin,
+                                        boolean async,
+                                        @Nonnull Runnable task,
+                                        long delay,
+                                        long period) {
+        synchronized (SchedulerHandler.class) {
+            if (syncTaskId == -1 || timer == null)
+                SchedulerHandler.start(plugin);
+        }
+
+        TimingWheel wheel = (async) ?
+                asyncWheel :
+                syncWheel;
+        Set<TimingWheel.Timeout> owned = timeouts.computeIfAbsent(plugin, key -> ConcurrentHashMap.newKeySet());
+
+        synchronized (wheel) { //record timeout before wheel can dispatch it
+            TimingWheel.Timeout timeout = wheel.schedule(plugin, task, delay, period);
+            owned.add(timeout);
+            return timeout;
+        }
+    }
+
+    /**
+     * Cancels scheduled task.
+     *
+     * @param plugin  Plugin.
+     * @param timeout Timeout.
+     */
+    static void cancel(@Nonnull JavaPlugin plugin, @Nonnull TimingWheel.Timeout timeout) {
+        timeout.cancel();
+        SchedulerHandler.forget(plugin, timeout);
+    }
+
+    /**
+     * Removes timeout from
+     * recorded tasks of plugin.
+     *
+     * @param owner   Owner plugin.
+     * @param timeout Timeout.
+     */
+    private static void forget(@Nonnull Object owner, @Nonnull TimingWheel.Timeout timeout) {
+        Set<TimingWheel.Timeout> owned = timeouts.get(owner);
+        if (owned != null)
+            owned.remove(timeout);
+    }
+
+    /**
+     * Runs due task. Exceptions are
+     * logged, so they do not stop
+     * other tasks of same tick. Tasks
+     * that run once are forgotten.
+     *
+     * @param timeout Timeout.
+     */
+    private static void execute(@Nonnull TimingWheel.Timeout timeout) {
+        if (timeout.isOnce())
+            SchedulerHandler.forget(timeout.getOwner(), timeout);
+
+        try {
+            timeout.getTask().run();
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Creates thread factory of
+     * daemon threads with given name.
+     *
+     * @param name Name of threads.
+     * @return Thread factory.
+     */
+    @Nonnull
+    private static ThreadFactory createFactory(@Nonnull String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + " #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -2,17 +2,30 @@
 
 import com.hakan.core.utils.Validate;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Replication of BukkitRunnable
- * class to handle some events.
+ * class to handle some events. It
+ * is scheduled on timing wheels of
+ * {@link SchedulerHandler} instead
+ * of bukkit scheduler.
  */
-public final class SchedulerRunnable extends BukkitRunnable {
+public final class SchedulerRunnable implements Runnable {
 
+    private static final AtomicInteger ids = new AtomicInteger();
+
+
+    private final int id;
     private final JavaPlugin plugin;
+    private Executor executor;
+    private boolean cancelled;
+    private TimingWheel.Timeout timeout;
 
     private Runnable endRunnable;
     private Runnable startRunnable;
@@ -25,6 +38,7 @@ public final class SchedulerRunnable extends BukkitRunnable {
      */
     public SchedulerRunnable(@Nonnull JavaPlugin plugin) {
         this.plugin = Validate.notNull(plugin, "plugin cannot be null!");
+        this.id = ids.incrementAndGet();
     }
 
     /**
@@ -33,7 +47,7 @@ public SchedulerRunnable(@Nonnull JavaPlugin plugin) {
      * @return Task id.
      */
     public int getId() {
-        return super.getTaskId();
+        return this.id;
     }
 
     /**
@@ -42,9 +56,21 @@ public int getId() {
      *
      * @return Cancelled.
      */
-    @Override
-    public boolean isCancelled() {
-        return super.isCancelled();
+    public synchronized boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Sets executor to run async tasks. If
+     * it is not set, executor of plugin
+     * in {@link SchedulerHandler} is used.
+     *
+     * @param executor Executor, or null.
+     */
+    @Nonnull
+    public SchedulerRunnable executor(@Nullable Executor executor) {
+        this.executor = executor;
+        return this;
     }
 
     /**
@@ -92,7 +118,7 @@ public SchedulerRunnable whenEnded(@Nonnull Runnable runnable) {
     public void runLater(long delay) {
         if (this.startRunnable != null)
             this.startRunnable.run();
-        super.runTaskLater(this.plugin, delay);
+        this.schedule(false, delay, -1);
     }
 
     /**
@@ -105,7 +131,7 @@ public void runLater(long delay) {
     public void runTimer(long delay, long period) {
         if (this.startRunnable != null)
             this.startRunnable.run();
-        super.runTaskTimer(this.plugin, delay, period);
+        this.schedule(false, delay, period);
     }
 
     /**
@@ -117,7 +143,7 @@ public void runTimer(long delay, long period) {
     public void runAsyncLater(long delay) {
         if (this.startRunnable != null)
             this.startRunnable.run();
-        super.runTaskLaterAsynchronously(this.plugin, delay);
+        this.schedule(true, delay, -1);
     }
 
     /**
@@ -130,17 +156,24 @@ public void runAsyncLater(long delay) {
     public void runAsyncTimer(long delay, long period) {
         if (this.startRunnable != null)
             this.startRunnable.run();
-        super.runTaskTimerAsynchronously(this.plugin, delay, period);
+        this.schedule(true, delay, period);
     }
 
     /**
      * Cancels the scheduler.
      */
-    @Override
     public void cancel() {
+        synchronized (this) {
+            if (this.cancelled)
+                return;
+
+            this.cancelled = true;
+            if (this.timeout != null)
+                SchedulerHandler.cancel(this.plugin, this.timeout);
+        }
+
         if (this.endRunnable != null)
             this.endRunnable.run();
-        super.cancel();
     }
 
     /**
@@ -151,4 +184,42 @@ public void run() {
         if (this.processRunnable != null)
             this.processRunnable.run();
     }
+
+    /**
+     * Schedules runnable to timing wheel.
+     *
+     * @param async  Is runnable async.
+     * @param delay  Delay.
+     * @param period Period, or -1 to run once.
+     */
+    private synchronized void schedule(boolean async, long delay, long period) {
+        Validate.isTrue(this.timeout != null, "runnable is already scheduled!");
+        Validate.isTrue(this.cancelled, "runnable is already cancelled!");
+
+        this.timeout = (async) ?
+                SchedulerHandler.schedule(this.plugin, true, this::dispatch, delay, period) :
+                SchedulerHandler.schedule(this.plugin, false, this, delay, period);
+    }
+
+    /**
+     * Passes runnable to executor. Executor
+     * of plugin is looked up on each dispatch,
+     * so tasks move to new executor when it is
+     * changed. If executor rejects the task,
+     * runnable is cancelled.
+     */
+    private void dispatch() {
+        Executor executor = (this.executor != null) ?
+                this.executor :
+                SchedulerHandler.getExecutor(this.plugin);
+
+        try {
+            executor.execute(() -> {
+                if (!this.isCancelled())
+                    this.run();
+            });
+        } catch (RejectedExecutionException e) {
+            this.cancel();
+        }
+    }
 }
@@ -0,0 +1,308 @@
+package com.hakan.core.scheduler;
+
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel. It has 4 levels
+ * of 64 slots, first level is one tick per
+ * slot and each next level covers a whole
+ * revolution of previous one. Timeouts are
+ * kept in linked lists, so scheduling and
+ * cancelling is O(1) and timeouts of upper
+ * levels are moved down as their time comes.
+ */
+final class TimingWheel {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long RANGE = 1L << (BITS * LEVELS);
+
+
+    private final Timeout[][] heads;
+    private final Consumer<Timeout> dispatcher;
+    private long tick;
+    private int size;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param dispatcher Consumer to run due timeouts.
+     */
+    TimingWheel(@Nonnull Consumer<Timeout> dispatcher) {
+        this.dispatcher = Validate.notNull(dispatcher, "dispatcher cannot be null!");
+        this.heads = new Timeout[LEVELS][SLOTS];
+    }
+
+    /**
+     * Gets current tick of wheel.
+     *
+     * @return Current tick.
+     */
+    synchronized long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Gets count of scheduled timeouts.
+     *
+     * @return Timeout count.
+     */
+    synchronized int size() {
+        return this.size;
+    }
+
+    /**
+     * Schedules task.
+     *
+     * @param owner  Owner of task.
+     * @param task   Task.
+     * @param delay  Delay as tick, at least 1.
+     * @param period Period as tick, or -1 to run once.
+     * @return Timeout.
+     */
+    @Nonnull
+    synchronized Timeout schedule(@Nonnull Object owner, @Nonnull Runnable task, long delay, long period) {
+        Validate.notNull(owner, "owner cannot be null!");
+        Validate.notNull(task, "task cannot be null!");
+
+        Timeout timeout = new Timeout(this, owner, task, (period == -1) ? -1 : Math.max(1, period));
+        timeout.deadline = this.tick + Math.max(1, delay);
+        this.link(timeout);
+        return timeout;
+    }
+
+    /**
+     * Cancels timeout.
+     *
+     * @param timeout Timeout.
+     * @return If timeout was scheduled, returns true.
+     */
+    synchronized boolean cancel(@Nonnull Timeout timeout) {
+        Validate.notNull(timeout, "timeout cannot be null!");
+        Validate.isTrue(timeout.wheel != this, "timeout is not scheduled to this wheel!");
+        timeout.cancelled = true;
+        return this.unlink(timeout);
+    }
+
+    /**
+     * Removes all timeouts.
+     */
+    synchronized void clear() {
+        for (Timeout[] level : this.heads) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                for (Timeout timeout = level[slot]; timeout != null; timeout = timeout.next) {
+                    timeout.cancelled = true;
+                    timeout.linked = false;
+                }
+                level[slot] = null;
+            }
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Moves wheel one tick forward and
+     * dispatches due timeouts. Periodic
+     * timeouts are scheduled again before
+     * they are dispatched.
+     */
+    void advance() {
+        List<Timeout> due = new ArrayList<>();
+
+        synchronized (this) {
+            long current = ++this.tick;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((current & ((1L << (BITS * level)) - 1)) == 0)
+                    this.cascade(level, (int) ((current >>> (BITS * level)) & MASK));
+            }
+
+            int slot = (int) (current & MASK);
+            Timeout timeout = this.heads[0][slot];
+            this.heads[0][slot] = null;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.linked = false;
+                timeout.prev = timeout.next = null;
+                this.size--;
+
+                if (timeout.deadline > current) {
+                    this.link(timeout);
+                } else {
+                    due.add(timeout);
+                    if (timeout.period != -1) {
+                        timeout.deadline = current + timeout.period;
+                        this.link(timeout);
+                    }
+                }
+                timeout = next;
+            }
+        }
+
+        for (Timeout timeout : due) {
+            if (!timeout.cancelled)
+                this.dispatcher.accept(timeout);
+        }
+    }
+
+    /**
+     * Moves timeouts of slot to
+     * lower levels.
+     *
+     * @param level Level.
+     * @param slot  Slot.
+     */
+    private void cascade(int level, int slot) {
+        Timeout timeout = this.heads[level][slot];
+        this.heads[level][slot] = null;
+
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.linked = false;
+            timeout.prev = timeout.next = null;
+            this.size--;
+
+            this.link(timeout);
+            timeout = next;
+        }
+    }
+
+    /**
+     * Links timeout to slot of its deadline.
+     * Timeouts that are farther than range
+     * of wheel are put to last level, and
+     * they are placed again when cascaded.
+     *
+     * @param timeout Timeout.
+     */
+    private void link(@Nonnull Timeout timeout) {
+        long deadline = Math.min(timeout.deadline, this.tick + RANGE - 1);
+        long remaining = deadline - this.tick;
+
+        int level = 0;
+        while (level < LEVELS - 1 && remaining >= (1L << (BITS * (level + 1))))
+            level++;
+        int slot = (int) ((deadline >>> (BITS * level)) & MASK);
+
+        Timeout head = this.heads[level][slot];
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = head;
+        timeout.linked = true;
+        if (head != null)
+            head.prev = timeout;
+        this.heads[level][slot] = timeout;
+        this.size++;
+    }
+
+    /**
+     * Unlinks timeout from its slot.
+     *
+     * @param timeout Timeout.
+     * @return If timeout was linked, returns true.
+     */
+    private boolean unlink(@Nonnull Timeout timeout) {
+        if (!timeout.linked)
+            return false;
+
+        if (timeout.prev != null)
+            timeout.prev.next = timeout.next;
+        else
+            this.heads[timeout.level][timeout.slot] = timeout.next;
+        if (timeout.next != null)
+            timeout.next.prev = timeout.prev;
+
+        timeout.prev = timeout.next = null;
+        timeout.linked = false;
+        this.size--;
+        return true;
+    }
+
+
+    /**
+     * Scheduled task of wheel.
+     */
+    static final class Timeout {
+
+        private final TimingWheel wheel;
+        private final Object owner;
+        private final Runnable task;
+        private final long period;
+        private long deadline;
+        private int level;
+        private int slot;
+        private boolean linked;
+        private volatile boolean cancelled;
+        private Timeout prev;
+        private Timeout next;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param wheel  Wheel of timeout.
+         * @param owner  Owner of task.
+         * @param task   Task.
+         * @param period Period as tick, or -1.
+         */
+        private Timeout(@Nonnull TimingWheel wheel, @Nonnull Object owner, @Nonnull Runnable task, long period) {
+            this.wheel = wheel;
+            this.owner = owner;
+            this.task = task;
+            this.period = period;
+        }
+
+        /**
+         * Gets owner of task.
+         *
+         * @return Owner.
+         */
+        @Nonnull
+        Object getOwner() {
+            return this.owner;
+        }
+
+        /**
+         * Gets task of timeout.
+         *
+         * @return Task.
+         */
+        @Nonnull
+        Runnable getTask() {
+            return this.task;
+        }
+
+        /**
+         * Checks if timeout runs only once.
+         *
+         * @return If timeout is not periodic, returns true.
+         */
+        boolean isOnce() {
+            return this.period == -1;
+        }
+
+        /**
+         * Cancels timeout on its wheel.
+         *
+         * @return If timeout was scheduled, returns true.
+         */
+        boolean cancel() {
+            return this.wheel.cancel(this);
+        }
+
+        /**
+         * Checks if timeout is cancelled.
+         *
+         * @return If timeout is cancelled, returns true.
+         */
+        boolean isCancelled() {
+            return this.cancelled;
+        }
+    }
+}
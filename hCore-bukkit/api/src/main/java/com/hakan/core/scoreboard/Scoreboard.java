@@ -1,14 +1,16 @@
 package com.hakan.core.scoreboard;
 
 import com.hakan.core.HCore;
-import com.hakan.core.utils.ColorUtil;
 import com.hakan.core.utils.Validate;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -22,6 +24,8 @@ public abstract class Scoreboard {
     protected final Player player;
     protected String title;
     protected String[] lines;
+    private String shownTitle;
+    private String[] shownLines;
 
     /**
      * Creates new Instance of this class.
@@ -32,6 +36,7 @@ public Scoreboard(@Nonnull Player player, @Nonnull String title) {
         this.player = Validate.notNull(player, "uid cannot be null!");
         this.title = Validate.notNull(title, "title cannot be null!");
         this.lines = new String[15];
+        this.shownLines = new String[15];
     }
 
     /**
@@ -221,40 +226,88 @@ public final Scoreboard update(int updateInterval, @Nonnull Consumer<Scoreboard>
     }
 
     /**
-     * Splits text into 3 different parts
-     * for prefix, middle and suffix.
+     * Shows the scoreboard to player. Only
+     * title and lines that are changed since
+     * last call are sent, so calling it when
+     * nothing is changed sends no packets.
      *
-     * @param text Text.
-     * @return 3 parts.
+     * @return Instance of wrapper.
      */
     @Nonnull
-    protected final String[] splitLine(int line, @Nonnull String text) {
-        Validate.notNull(text, "text cannot be null!");
-        Validate.isTrue(text.length() > 32, "text length must be smaller than or equal to 32! (" + text + ")");
-
-        String color = (line >= 10) ? "§" + new String[]{"a", "b", "c", "d", "e", "f"}[line - 10] : "§" + line;
-        text += new String(new char[32 - text.length()]).replace("\0", "‼");
-
-        String prefix = text.substring(0, 16);
-        String suffix = text.substring(16, 32);
-        String middle = color + ColorUtil.getLastColors(prefix);
-
-        return new String[]{
-                prefix.replace("‼", ""),
-                middle.replace("‼", ""),
-                suffix.replace("‼", "")
-        };
+    public final Scoreboard show() {
+        return this.show(null);
     }
 
+    /**
+     * Shows the scoreboard to player. Update
+     * packets of title and lines are taken
+     * from shared packets if they are created
+     * for another player, since they do not
+     * contain anything about player.
+     *
+     * @param shared Shared packets by line and text, or null.
+     * @return Instance of wrapper.
+     */
+    @Nonnull
+    final synchronized Scoreboard show(@Nullable Map<String, Object[]> shared) {
+        List<Object> packets = new ArrayList<>();
+
+        if (!this.title.equals(this.shownTitle)) {
+            Object[] titlePackets = (shared != null && this.shownTitle != null) ?
+                    shared.computeIfAbsent("title:" + this.title, key -> this.createTitlePackets(this.title, true)) :
+                    this.createTitlePackets(this.title, this.shownTitle != null);
+
+            packets.addAll(Arrays.asList(titlePackets));
+            this.shownTitle = this.title;
+        }
+
+        if (this.shownLines.length < this.lines.length)
+            this.shownLines = Arrays.copyOf(this.shownLines, this.lines.length);
+        for (int i = 0; i < this.lines.length; i++) {
+            String line = this.lines[i];
+            if (line == null || line.equals(this.shownLines[i]))
+                continue;
 
+            int number = i;
+            Object[] linePackets = (shared != null && this.shownLines[i] != null) ?
+                    shared.computeIfAbsent(i + ":" + line, key -> this.createLinePackets(number, line, true)) :
+                    this.createLinePackets(i, line, this.shownLines[i] != null);
+
+            packets.addAll(Arrays.asList(linePackets));
+            this.shownLines[i] = line;
+        }
+
+        if (!packets.isEmpty())
+            HCore.sendPacket(this.player, packets.toArray());
+        return this;
+    }
 
     /**
-     * Shows the scoreboard to player.
+     * Creates packets to show title. If
+     * objective is not created yet, it is
+     * created and displayed on sidebar,
+     * otherwise only its title is updated.
      *
-     * @return Instance of wrapper.
+     * @param title   Title.
+     * @param created Is objective created before.
+     * @return Packets.
+     */
+    @Nonnull
+    protected abstract Object[] createTitlePackets(@Nonnull String title, boolean created);
+
+    /**
+     * Creates packets to show line. If team
+     * of line is not created yet, it is created
+     * with its score, otherwise only prefix
+     * and suffix of team are updated.
+     *
+     * @param line    Line number.
+     * @param text    Text.
+     * @param created Is team of line created before.
+     * @return Packets.
      */
     @Nonnull
-    public abstract Scoreboard show();
+    protected abstract Object[] createLinePackets(int line, @Nonnull String text, boolean created);
 
     /**
      * Deletes scoreboard.
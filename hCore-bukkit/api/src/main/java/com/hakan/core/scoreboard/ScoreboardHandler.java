@@ -2,15 +2,14 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.Registry;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,7 +20,7 @@
  */
 public final class ScoreboardHandler {
 
-    private static final Map<UUID, Scoreboard> scoreboards = new HashMap<>();
+    private static final Registry<UUID, Scoreboard> scoreboards = new Registry<>();
 
     /**
      * Initialize method of Scoreboard.
@@ -39,7 +38,7 @@ public static void initialize() {
      */
     @Nonnull
     public static Map<UUID, Scoreboard> getContentSafe() {
-        return new HashMap<>(scoreboards);
+        return scoreboards.copy();
     }
 
     /**
@@ -59,7 +58,7 @@ public static Map<UUID, Scoreboard> getContent() {
      */
     @Nonnull
     public static Collection<Scoreboard> getValuesSafe() {
-        return new ArrayList<>(scoreboards.values());
+        return scoreboards.copyValues();
     }
 
     /**
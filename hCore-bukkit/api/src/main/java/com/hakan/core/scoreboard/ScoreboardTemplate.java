@@ -0,0 +1,312 @@
+package com.hakan.core.scoreboard;
+
+import com.hakan.core.HCore;
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * ScoreboardTemplate class to show same
+ * scoreboard to many players. Shared lines
+ * are rendered once for all viewers and their
+ * update packets are reused, only personal
+ * lines are rendered for each viewer. All
+ * viewers are updated by one scheduler task.
+ */
+public final class ScoreboardTemplate {
+
+    private final Map<UUID, Scoreboard> viewers;
+    private final Map<Integer, Function<Player, String>> personalLines;
+    private String title;
+    private String[] lines;
+    private boolean running;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param title Title.
+     */
+    public ScoreboardTemplate(@Nonnull String title) {
+        this.title = Validate.notNull(title, "title cannot be null!");
+        this.lines = new String[15];
+        this.viewers = new LinkedHashMap<>();
+        this.personalLines = new HashMap<>();
+    }
+
+    /**
+     * Gets title of template.
+     *
+     * @return Title of template.
+     */
+    @Nonnull
+    public synchronized String getTitle() {
+        return this.title;
+    }
+
+    /**
+     * Sets title of template.
+     *
+     * @param title Title.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized ScoreboardTemplate setTitle(@Nonnull String title) {
+        this.title = Validate.notNull(title, "title cannot be null!");
+        return this;
+    }
+
+    /**
+     * Gets shared text of line.
+     *
+     * @param line Line number.
+     * @return Text of line.
+     */
+    @Nullable
+    public synchronized String getLine(int line) {
+        return (line < this.lines.length) ?
+                this.lines[line] :
+                null;
+    }
+
+    /**
+     * Sets line to text that
+     * is same for all viewers.
+     *
+     * @param line Line number.
+     * @param text Text.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized ScoreboardTemplate setLine(int line, @Nonnull String text) {
+        Validate.notNull(text, "text cannot be null!");
+        Validate.isTrue(line < 0, "line cannot be negative!");
+
+        if (line >= this.lines.length)
+            this.lines = Arrays.copyOf(this.lines, line + 1);
+        this.lines[line] = text;
+        this.personalLines.remove(line);
+        return this;
+    }
+
+    /**
+     * Sets line to text that is
+     * rendered for each viewer.
+     *
+     * @param line     Line number.
+     * @param function Function to render text for viewer.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized ScoreboardTemplate setLine(int line, @Nonnull Function<Player, String> function) {
+        Validate.notNull(function, "function cannot be null!");
+        Validate.isTrue(line < 0, "line cannot be negative!");
+
+        if (line < this.lines.length)
+            this.lines[line] = null;
+        this.personalLines.put(line, function);
+        return this;
+    }
+
+    /**
+     * Sets shared lines of template.
+     *
+     * @param lines List of lines.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized ScoreboardTemplate setLines(@Nonnull List<String> lines) {
+        Validate.notNull(lines, "lines cannot be null!");
+        for (int i = 0; i < lines.size(); i++)
+            this.setLine(i, lines.get(i));
+        return this;
+    }
+
+    /**
+     * Removes line from template.
+     *
+     * @param line Line number.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized ScoreboardTemplate removeLine(int line) {
+        if (line < this.lines.length)
+            this.lines[line] = null;
+        this.personalLines.remove(line);
+        return this;
+    }
+
+    /**
+     * Gets viewers of template.
+     *
+     * @return Viewers.
+     */
+    @Nonnull
+    public synchronized Collection<Player> getViewers() {
+        List<Player> players = new ArrayList<>();
+        this.viewers.values().forEach(scoreboard -> players.add(scoreboard.getPlayer()));
+        return Collections.unmodifiableList(players);
+    }
+
+    /**
+     * Checks if player sees template.
+     *
+     * @param player Player.
+     * @return If player sees template, returns true.
+     */
+    public synchronized boolean isViewer(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+        return this.viewers.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * Shows template to player. Current
+     * scoreboard of player is replaced.
+     *
+     * @param player Player.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized ScoreboardTemplate addViewer(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+
+        Scoreboard scoreboard = ScoreboardHandler.forceCreate(player, this.title);
+        this.viewers.put(player.getUniqueId(), scoreboard);
+        this.render(scoreboard, this.lines.clone(), new HashMap<>());
+        return this;
+    }
+
+    /**
+     * Removes template from player.
+     *
+     * @param player Player.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized ScoreboardTemplate removeViewer(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+
+        Scoreboard scoreboard = this.viewers.remove(player.getUniqueId());
+        if (scoreboard != null && scoreboard.isExist() && ScoreboardHandler.getByPlayer(player) == scoreboard)
+            scoreboard.delete();
+        return this;
+    }
+
+    /**
+     * Shows changes of template to
+     * all viewers. Viewers who quit or
+     * whose scoreboard is replaced are
+     * removed from template.
+     *
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized ScoreboardTemplate show() {
+        this.viewers.values().removeIf(scoreboard -> ScoreboardHandler.findByUID(scoreboard.getPlayer().getUniqueId())
+                .map(current -> current != scoreboard)
+                .orElse(true));
+
+        String[] shared = this.lines.clone();
+        Map<String, Object[]> packets = new HashMap<>();
+        this.viewers.values().forEach(scoreboard -> this.render(scoreboard, shared, packets));
+        return this;
+    }
+
+    /**
+     * Once every updateInterval ticks,
+     * template is shown to all viewers.
+     *
+     * @param updateInterval Update interval as tick.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate update(int updateInterval) {
+        return this.update(updateInterval, (template) -> {
+        });
+    }
+
+    /**
+     * Once every updateInterval ticks,
+     * callback is triggered and template
+     * is shown to all viewers.
+     *
+     * @param updateInterval Update interval as tick.
+     * @param consumer       Callback.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized ScoreboardTemplate update(int updateInterval, @Nonnull Consumer<ScoreboardTemplate> consumer) {
+        Validate.notNull(consumer, "consumer cannot be null!");
+        Validate.isTrue(updateInterval <= 0, "update interval must be greater than 0!");
+        Validate.isTrue(this.running, "template is already updating!");
+
+        this.running = true;
+        HCore.syncScheduler().every(updateInterval)
+                .terminateIf(task -> !this.isRunning())
+                .run(() -> {
+                    consumer.accept(this);
+                    this.show();
+                });
+        return this;
+    }
+
+    /**
+     * Checks if template is updating.
+     *
+     * @return If template is updating, returns true.
+     */
+    public synchronized boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Stops update task and removes
+     * template from all viewers.
+     *
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public synchronized ScoreboardTemplate delete() {
+        this.running = false;
+        new ArrayList<>(this.viewers.values()).forEach(scoreboard -> this.removeViewer(scoreboard.getPlayer()));
+        return this;
+    }
+
+    /**
+     * Renders personal lines of viewer
+     * over shared lines and shows them.
+     *
+     * @param scoreboard Scoreboard of viewer.
+     * @param shared     Shared lines.
+     * @param packets    Shared packets of this update.
+     */
+    private void render(@Nonnull Scoreboard scoreboard,
+                        @Nonnull String[] shared,
+                        @Nonnull Map<String, Object[]> packets) {
+        String[] lines = shared;
+        if (!this.personalLines.isEmpty()) {
+            int length = Math.max(shared.length, Collections.max(this.personalLines.keySet()) + 1);
+            lines = Arrays.copyOf(shared, length);
+
+            Player player = scoreboard.getPlayer();
+            for (Map.Entry<Integer, Function<Player, String>> entry : this.personalLines.entrySet())
+                lines[entry.getKey()] = entry.getValue().apply(player);
+        }
+
+        scoreboard.setTitle(this.title);
+        scoreboard.setLines(lines);
+        scoreboard.show(packets);
+    }
+}
@@ -0,0 +1,25 @@
+package com.hakan.core.scoreboard.encoder;
+
+import com.hakan.core.utils.ColorUtil;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@inheritDoc}
+ * <p>
+ * Line encoder for 1.13 and newer versions.
+ * Team prefix is a chat component there, so
+ * whole text is put to prefix without any
+ * length limit or splitting.
+ */
+public final class ComponentLineEncoder implements LineEncoder {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String[] encode(int line, @Nonnull String text) {
+        return new String[]{ColorUtil.colored(text), LineEncoder.getEntry(line), ""};
+    }
+}
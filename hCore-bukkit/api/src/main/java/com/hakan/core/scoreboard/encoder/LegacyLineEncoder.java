@@ -0,0 +1,73 @@
+package com.hakan.core.scoreboard.encoder;
+
+import com.hakan.core.utils.ColorUtil;
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@inheritDoc}
+ * <p>
+ * Line encoder for 1.12 and older versions.
+ * Team prefix and suffix can be 16 characters
+ * there, so text is split into them and colors
+ * at the end of prefix are carried by entry.
+ */
+public final class LegacyLineEncoder implements LineEncoder {
+
+    private static final int PART_LENGTH = 16;
+
+    /**
+     * Gets colors that are active at the
+     * end of colored text. Color codes reset
+     * formats, and reset code resets both.
+     *
+     * @param text Colored text.
+     * @return Last color and format codes.
+     */
+    @Nonnull
+    private static String getLastColors(@Nonnull String text) {
+        char color = 0;
+        StringBuilder formats = new StringBuilder();
+
+        for (int i = 0; i < text.length() - 1; i++) {
+            if (text.charAt(i) != '§')
+                continue;
+
+            char code = Character.toLowerCase(text.charAt(++i));
+            if ((code >= '0' && code <= '9') || (code >= 'a' && code <= 'f')) {
+                color = code;
+                formats.setLength(0);
+            } else if (code >= 'k' && code <= 'o') {
+                formats.append('§').append(code);
+            } else if (code == 'r') {
+                color = 0;
+                formats.setLength(0);
+            }
+        }
+
+        return (color != 0) ?
+                "§" + color + formats :
+                formats.toString();
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String[] encode(int line, @Nonnull String text) {
+        Validate.notNull(text, "text cannot be null!");
+        Validate.isTrue(text.length() > PART_LENGTH * 2, "text length must be smaller than or equal to 32! (" + text + ")");
+
+        String colored = ColorUtil.colored(text);
+        if (colored.length() <= PART_LENGTH)
+            return new String[]{colored, LineEncoder.getEntry(line), ""};
+
+        int split = (colored.charAt(PART_LENGTH - 1) == '§') ? PART_LENGTH - 1 : PART_LENGTH;
+        String prefix = colored.substring(0, split);
+        String suffix = colored.substring(split, Math.min(colored.length(), split + PART_LENGTH));
+        return new String[]{prefix, LineEncoder.getEntry(line) + LegacyLineEncoder.getLastColors(prefix), suffix};
+    }
+}
@@ -0,0 +1,36 @@
+package com.hakan.core.scoreboard.encoder;
+
+import javax.annotation.Nonnull;
+
+/**
+ * LineEncoder interface to convert text
+ * of scoreboard line to prefix, entry and
+ * suffix of its team. Parts are colored.
+ */
+public interface LineEncoder {
+
+    /**
+     * Gets entry of line. Entries are
+     * made of color codes only, so they
+     * are unique and invisible.
+     *
+     * @param line Line number.
+     * @return Entry.
+     */
+    @Nonnull
+    static String getEntry(int line) {
+        return (line < 16) ?
+                "§" + Character.forDigit(line, 16) :
+                "§" + Character.forDigit(line & 15, 16) + "§" + Character.forDigit((line >> 4) & 15, 16);
+    }
+
+    /**
+     * Encodes text of line.
+     *
+     * @param line Line number.
+     * @param text Text.
+     * @return Prefix, entry and suffix.
+     */
+    @Nonnull
+    String[] encode(int line, @Nonnull String text);
+}
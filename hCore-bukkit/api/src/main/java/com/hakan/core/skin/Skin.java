@@ -1,14 +1,11 @@
 package com.hakan.core.skin;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.hakan.core.utils.Validate;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
-import java.io.InputStreamReader;
-import java.net.URL;
 import java.util.Base64;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,6 +15,7 @@
  */
 public class Skin {
 
+    private static final long TIMEOUT = 15;
     private static final Pattern PATTERN = Pattern.compile("\"(http://textures\\.minecraft\\.net/texture/)(?<shortTexture>\\w+)\"");
     public static final Skin STEVE = new Skin(
             "ewogICJ0aW1lc3RhbXAiIDogMTY2MTY3OTM3OTkwMCwKICAicHJvZmlsZUlkIiA6ICI4NjY3YmE3MWI4NWE0MDA0YWY1NDQ1N2E5" +
@@ -37,7 +35,10 @@ public class Skin {
 
     /**
      * Gets skin of player from
-     * mojang api.
+     * default skin repository.
+     * It blocks until skin is resolved,
+     * use {@link SkinHandler#find(Player)}
+     * to get it asynchronously.
      *
      * @param player Player.
      * @return Skin.
@@ -50,28 +51,19 @@ public static Skin from(@Nonnull Player player) {
 
     /**
      * Gets skin of player from
-     * mojang api.
+     * default skin repository.
+     * It blocks until skin is resolved,
+     * use {@link SkinHandler#find(String)}
+     * to get it asynchronously.
      *
      * @param playerName Player name.
-     * @return Skin.
-     * @throws RuntimeException If there is no skin for player.
+     * @return Skin, or {@link #STEVE} if skin cannot be resolved.
      */
     @Nonnull
     public static Skin from(@Nonnull String playerName) {
         try {
             Validate.notNull(playerName, "player name cannot be null!");
-
-            URL url_0 = new URL("https://api.mojang.com/users/profiles/minecraft/" + playerName);
-            InputStreamReader reader_0 = new InputStreamReader(url_0.openStream());
-            String uuid = new JsonParser().parse(reader_0).getAsJsonObject().get("id").getAsString();
-
-            URL url_1 = new URL("https://sessionserver.mojang.com/session/minecraft/profile/" + uuid + "?unsigned=false");
-            InputStreamReader reader_1 = new InputStreamReader(url_1.openStream());
-            JsonObject textureProperty = new JsonParser().parse(reader_1).getAsJsonObject().get("properties").getAsJsonArray().get(0).getAsJsonObject();
-            String texture = textureProperty.get("value").getAsString();
-            String signature = textureProperty.get("signature").getAsString();
-
-            return new Skin(texture, signature);
+            return SkinHandler.find(playerName).get(TIMEOUT, TimeUnit.SECONDS);
         } catch (Exception e) {
             return STEVE;
         }
@@ -0,0 +1,145 @@
+package com.hakan.core.skin;
+
+import com.hakan.core.HCore;
+import com.hakan.core.skin.fetcher.MojangSkinFetcher;
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+import org.bukkit.event.server.PluginDisableEvent;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SkinHandler class to keep
+ * default skin repository.
+ */
+public final class SkinHandler {
+
+    private static final int CAPACITY = 256;
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static ExecutorService executor;
+    private static SkinRepository repository;
+
+    /**
+     * Initializes the skin system. Skins
+     * are cached in "skins" folder of
+     * plugin after this method. Folder is
+     * created when first skin is written.
+     */
+    public static void initialize() {
+        File folder = new File(HCore.getInstance().getDataFolder(), "skins");
+        SkinHandler.setRepository(new SkinRepository(folder,
+                new MojangSkinFetcher(TIMEOUT), SkinHandler.getExecutor(), CAPACITY, TTL));
+
+        HCore.registerEvent(PluginDisableEvent.class)
+                .filter(event -> event.getPlugin().equals(HCore.getInstance()))
+                .consume(event -> SkinHandler.shutdown());
+    }
+
+    /**
+     * Shuts down skin workers and
+     * removes default skin repository.
+     */
+    public static synchronized void shutdown() {
+        if (executor != null)
+            executor.shutdownNow();
+        executor = null;
+        repository = null;
+    }
+
+    /**
+     * Gets default skin repository. If skin
+     * system is not initialized, it caches
+     * skins only in memory.
+     *
+     * @return Skin repository.
+     */
+    @Nonnull
+    public static synchronized SkinRepository getRepository() {
+        if (repository == null)
+            repository = new SkinRepository(null, new MojangSkinFetcher(TIMEOUT), SkinHandler.getExecutor(), CAPACITY, TTL);
+        return repository;
+    }
+
+    /**
+     * Sets default skin repository.
+     *
+     * @param repository Skin repository.
+     */
+    public static synchronized void setRepository(@Nonnull SkinRepository repository) {
+        SkinHandler.repository = Validate.notNull(repository, "repository cannot be null!");
+    }
+
+    /**
+     * Gets executor that default
+     * skin repository uses. If it
+     * does not exist, creates it.
+     *
+     * @return Executor.
+     */
+    @Nonnull
+    public static synchronized ExecutorService getExecutor() {
+        if (executor == null)
+            executor = SkinHandler.createExecutor();
+        return executor;
+    }
+
+    /**
+     * Finds skin of player from
+     * default skin repository.
+     *
+     * @param player Player.
+     * @return Skin as future.
+     */
+    @Nonnull
+    public static CompletableFuture<Skin> find(@Nonnull Player player) {
+        return SkinHandler.getRepository().find(player);
+    }
+
+    /**
+     * Finds skin of player from
+     * default skin repository.
+     *
+     * @param uid UID of player.
+     * @return Skin as future.
+     */
+    @Nonnull
+    public static CompletableFuture<Skin> find(@Nonnull UUID uid) {
+        return SkinHandler.getRepository().find(uid);
+    }
+
+    /**
+     * Finds skin of player from
+     * default skin repository.
+     *
+     * @param nameOrUID Player name or uuid.
+     * @return Skin as future.
+     */
+    @Nonnull
+    public static CompletableFuture<Skin> find(@Nonnull String nameOrUID) {
+        return SkinHandler.getRepository().find(nameOrUID);
+    }
+
+    /**
+     * Creates executor of skin workers.
+     *
+     * @return Executor.
+     */
+    @Nonnull
+    private static ExecutorService createExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "hCore-Skin-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
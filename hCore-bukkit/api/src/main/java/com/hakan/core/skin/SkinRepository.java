@@ -0,0 +1,433 @@
+package com.hakan.core.skin;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.hakan.core.skin.fetcher.SkinFetcher;
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * SkinRepository class to resolve skins
+ * asynchronously. Skins are served from
+ * a memory cache, then from a disk cache
+ * and fetched by {@link SkinFetcher} only
+ * if both of them miss or expire. Lookups
+ * of same key are shared while fetching.
+ */
+public final class SkinRepository {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[a-z0-9_]{1,16}|[0-9a-f]{32}");
+
+    /**
+     * Converts player name or uuid to
+     * key of cache.
+     *
+     * @param nameOrUID Player name or uuid.
+     * @return Key.
+     * @throws IllegalArgumentException If it is not a valid name or uuid.
+     */
+    @Nonnull
+    public static String toKey(@Nonnull String nameOrUID) {
+        Validate.notNull(nameOrUID, "name or uid cannot be null!");
+
+        String key = nameOrUID.trim().toLowerCase(Locale.ROOT);
+        if (key.length() == 36)
+            key = key.replace("-", "");
+        if (!KEY_PATTERN.matcher(key).matches())
+            throw new IllegalArgumentException(nameOrUID + " is not a valid player name or uuid!");
+        return key;
+    }
+
+
+    private final File folder;
+    private final SkinFetcher fetcher;
+    private final Executor executor;
+    private final int capacity;
+    private final long ttl;
+    private final LinkedHashMap<String, CachedSkin> skins;
+    private final Map<String, CompletableFuture<Skin>> pending;
+    private final AtomicLong hits;
+    private final AtomicLong diskHits;
+    private final AtomicLong misses;
+    private final AtomicLong failures;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param folder   Folder of disk cache, or null to use only memory.
+     * @param fetcher  Fetcher of skins.
+     * @param executor Executor to load skins.
+     * @param capacity Maximum count of skins in memory.
+     * @param ttl      Time to keep a skin before fetching it again.
+     */
+    public SkinRepository(@Nullable File folder,
+                          @Nonnull SkinFetcher fetcher,
+                          @Nonnull Executor executor,
+                          int capacity,
+                          @Nonnull Duration ttl) {
+        Validate.isTrue(capacity <= 0, "capacity must be greater than 0!");
+        Validate.notNull(ttl, "ttl cannot be null!");
+        Validate.isTrue(ttl.isNegative(), "ttl cannot be negative!");
+
+        this.folder = folder;
+        this.fetcher = Validate.notNull(fetcher, "fetcher cannot be null!");
+        this.executor = Validate.notNull(executor, "executor cannot be null!");
+        this.capacity = capacity;
+        this.ttl = ttl.toMillis();
+        this.pending = new ConcurrentHashMap<>();
+        this.hits = new AtomicLong();
+        this.diskHits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.failures = new AtomicLong();
+        this.skins = new LinkedHashMap<String, CachedSkin>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSkin> eldest) {
+                return this.size() > SkinRepository.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets capacity of memory cache.
+     *
+     * @return Capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets count of skins in memory.
+     *
+     * @return Skin count.
+     */
+    public synchronized int size() {
+        return this.skins.size();
+    }
+
+    /**
+     * Gets count of lookups that
+     * are served from memory.
+     *
+     * @return Hit count.
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Gets count of lookups that
+     * are served from disk.
+     *
+     * @return Disk hit count.
+     */
+    public long getDiskHits() {
+        return this.diskHits.get();
+    }
+
+    /**
+     * Gets count of lookups that
+     * are fetched by fetcher.
+     *
+     * @return Miss count.
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Gets count of fetches
+     * that are failed.
+     *
+     * @return Failure count.
+     */
+    public long getFailures() {
+        return this.failures.get();
+    }
+
+    /**
+     * Gets count of lookups
+     * that are being loaded.
+     *
+     * @return Pending count.
+     */
+    public int getPendingCount() {
+        return this.pending.size();
+    }
+
+    /**
+     * Finds skin of player.
+     *
+     * @param player Player.
+     * @return Skin as future.
+     */
+    @Nonnull
+    public CompletableFuture<Skin> find(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+        return this.find(player.getName());
+    }
+
+    /**
+     * Finds skin of player.
+     *
+     * @param uid UID of player.
+     * @return Skin as future.
+     */
+    @Nonnull
+    public CompletableFuture<Skin> find(@Nonnull UUID uid) {
+        Validate.notNull(uid, "uid cannot be null!");
+        return this.find(uid.toString());
+    }
+
+    /**
+     * Finds skin of player. If skin cannot
+     * be fetched and there is no expired
+     * copy of it on disk, future completes
+     * exceptionally.
+     *
+     * @param nameOrUID Player name or uuid.
+     * @return Skin as future.
+     */
+    @Nonnull
+    public CompletableFuture<Skin> find(@Nonnull String nameOrUID) {
+        String key = SkinRepository.toKey(nameOrUID);
+
+        Skin skin = this.findInMemory(key);
+        if (skin != null) {
+            this.hits.incrementAndGet();
+            return CompletableFuture.completedFuture(skin);
+        }
+
+        CompletableFuture<Skin> created = new CompletableFuture<>();
+        CompletableFuture<Skin> future = this.pending.putIfAbsent(key, created);
+        if (future != null)
+            return future;
+
+        try {
+            this.executor.execute(() -> this.load(key, created));
+        } catch (Exception e) {
+            this.pending.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * Gets skin of player if it
+     * is in memory and not expired.
+     *
+     * @param nameOrUID Player name or uuid.
+     * @return Skin as optional.
+     */
+    @Nonnull
+    public Optional<Skin> getIfPresent(@Nonnull String nameOrUID) {
+        return Optional.ofNullable(this.findInMemory(SkinRepository.toKey(nameOrUID)));
+    }
+
+    /**
+     * Removes skin of player
+     * from memory and disk.
+     *
+     * @param nameOrUID Player name or uuid.
+     */
+    public void invalidate(@Nonnull String nameOrUID) {
+        String key = SkinRepository.toKey(nameOrUID);
+        synchronized (this) {
+            this.skins.remove(key);
+        }
+
+        File file = this.getFile(key);
+        if (file != null && file.exists() && !file.delete())
+            file.deleteOnExit();
+    }
+
+    /**
+     * Removes all skins from memory.
+     */
+    public synchronized void clear() {
+        this.skins.clear();
+    }
+
+    /**
+     * Loads skin from disk or fetcher
+     * and completes future with it.
+     *
+     * @param key    Key.
+     * @param future Future.
+     */
+    private void load(@Nonnull String key, @Nonnull CompletableFuture<Skin> future) {
+        try {
+            CachedSkin stored = this.readDisk(key);
+            if (stored != null && !stored.isExpired(this.ttl)) {
+                this.diskHits.incrementAndGet();
+                this.putMemory(key, stored);
+                future.complete(stored.skin);
+                return;
+            }
+
+            this.misses.incrementAndGet();
+            try {
+                CachedSkin fetched = new CachedSkin(this.fetcher.fetch(key), System.currentTimeMillis());
+                this.putMemory(key, fetched);
+                this.writeDisk(key, fetched);
+                future.complete(fetched.skin);
+            } catch (Exception e) {
+                this.failures.incrementAndGet();
+                if (stored != null) future.complete(stored.skin);
+                else future.completeExceptionally(e);
+            }
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            this.pending.remove(key, future);
+        }
+    }
+
+    /**
+     * Finds skin in memory. Expired
+     * skins are removed.
+     *
+     * @param key Key.
+     * @return Skin, or null.
+     */
+    @Nullable
+    private synchronized Skin findInMemory(@Nonnull String key) {
+        CachedSkin cached = this.skins.get(key);
+        if (cached == null)
+            return null;
+
+        if (cached.isExpired(this.ttl)) {
+            this.skins.remove(key);
+            return null;
+        }
+        return cached.skin;
+    }
+
+    /**
+     * Puts skin to memory.
+     *
+     * @param key    Key.
+     * @param cached Cached skin.
+     */
+    private synchronized void putMemory(@Nonnull String key, @Nonnull CachedSkin cached) {
+        this.skins.put(key, cached);
+    }
+
+    /**
+     * Gets disk cache file of key.
+     *
+     * @param key Key.
+     * @return File, or null if disk cache is disabled.
+     */
+    @Nullable
+    private File getFile(@Nonnull String key) {
+        return (this.folder != null) ?
+                new File(this.folder, key + ".json") :
+                null;
+    }
+
+    /**
+     * Reads skin from disk. Broken
+     * files are ignored.
+     *
+     * @param key Key.
+     * @return Cached skin, or null.
+     */
+    @Nullable
+    private CachedSkin readDisk(@Nonnull String key) {
+        File file = this.getFile(key);
+        if (file == null || !file.isFile())
+            return null;
+
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            JsonObject json = new JsonParser().parse(reader).getAsJsonObject();
+            Skin skin = new Skin(json.get("texture").getAsString(), json.get("signature").getAsString());
+            return new CachedSkin(skin, json.get("time").getAsLong());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes skin to disk. It is written
+     * to a temporary file first, so readers
+     * never see a half written file. Folder
+     * is created on first write.
+     *
+     * @param key    Key.
+     * @param cached Cached skin.
+     */
+    private void writeDisk(@Nonnull String key, @Nonnull CachedSkin cached) {
+        File file = this.getFile(key);
+        if (file == null)
+            return;
+
+        JsonObject json = new JsonObject();
+        json.addProperty("texture", cached.skin.getTexture());
+        json.addProperty("signature", cached.skin.getSignature());
+        json.addProperty("time", cached.time);
+
+        if (!this.folder.mkdirs() && !this.folder.isDirectory())
+            return;
+
+        File temp = new File(this.folder, key + ".json." + Thread.currentThread().getId() + ".tmp");
+        try {
+            Files.write(temp.toPath(), json.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            if (temp.exists() && !temp.delete())
+                temp.deleteOnExit();
+        }
+    }
+
+
+    /**
+     * Skin with the time it is fetched.
+     */
+    private static final class CachedSkin {
+
+        private final Skin skin;
+        private final long time;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param skin Skin.
+         * @param time Fetch time as millis.
+         */
+        private CachedSkin(@Nonnull Skin skin, long time) {
+            this.skin = skin;
+            this.time = time;
+        }
+
+        /**
+         * Checks if skin is expired.
+         *
+         * @param ttl Time to live as millis.
+         * @return If skin is expired, returns true.
+         */
+        private boolean isExpired(long ttl) {
+            return System.currentTimeMillis() - this.time >= ttl;
+        }
+    }
+}
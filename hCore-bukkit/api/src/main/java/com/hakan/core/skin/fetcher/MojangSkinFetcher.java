@@ -0,0 +1,90 @@
+package com.hakan.core.skin.fetcher;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.hakan.core.skin.Skin;
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * {@inheritDoc}
+ * <p>
+ * Fetches skins from mojang api. Names are
+ * resolved to uuids first, uuids are used
+ * directly.
+ */
+public final class MojangSkinFetcher implements SkinFetcher {
+
+    private static final String PROFILE_URL = "https://api.mojang.com/users/profiles/minecraft/%s";
+    private static final String SESSION_URL = "https://sessionserver.mojang.com/session/minecraft/profile/%s?unsigned=false";
+
+
+    private final int timeout;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param timeout Connect and read timeout.
+     */
+    public MojangSkinFetcher(@Nonnull Duration timeout) {
+        Validate.notNull(timeout, "timeout cannot be null!");
+        Validate.isTrue(timeout.isNegative() || timeout.isZero(), "timeout must be greater than 0!");
+        this.timeout = (int) Math.min(Integer.MAX_VALUE, timeout.toMillis());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Skin fetch(@Nonnull String key) throws IOException {
+        Validate.notNull(key, "key cannot be null!");
+
+        String uuid = key;
+        if (key.length() != 32)
+            uuid = this.read(String.format(PROFILE_URL, key)).get("id").getAsString();
+
+        JsonObject property = this.read(String.format(SESSION_URL, uuid))
+                .get("properties").getAsJsonArray()
+                .get(0).getAsJsonObject();
+        return new Skin(property.get("value").getAsString(), property.get("signature").getAsString());
+    }
+
+    /**
+     * Reads json object from url.
+     *
+     * @param url Url.
+     * @return Json object.
+     * @throws IOException If request fails or player does not exist.
+     */
+    @Nonnull
+    private JsonObject read(@Nonnull String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setConnectTimeout(this.timeout);
+        connection.setReadTimeout(this.timeout);
+
+        try {
+            int code = connection.getResponseCode();
+            if (code != HttpURLConnection.HTTP_OK)
+                throw new IOException("request to " + url + " failed with code " + code + "!");
+
+            try (Reader reader = new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
+                JsonElement element = new JsonParser().parse(reader);
+                if (!element.isJsonObject())
+                    throw new IOException("response of " + url + " is not a json object!");
+                return element.getAsJsonObject();
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
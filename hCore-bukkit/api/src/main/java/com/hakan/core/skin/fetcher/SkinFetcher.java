@@ -0,0 +1,25 @@
+package com.hakan.core.skin.fetcher;
+
+import com.hakan.core.skin.Skin;
+
+import javax.annotation.Nonnull;
+
+/**
+ * SkinFetcher interface to fetch skins
+ * from a remote source. It is called on
+ * worker threads of skin repository,
+ * so it can block.
+ */
+@FunctionalInterface
+public interface SkinFetcher {
+
+    /**
+     * Fetches skin of player.
+     *
+     * @param key Lower case player name or uuid without dashes.
+     * @return Skin.
+     * @throws Exception If skin cannot be fetched.
+     */
+    @Nonnull
+    Skin fetch(@Nonnull String key) throws Exception;
+}
@@ -1,6 +1,7 @@
 package com.hakan.core.ui;
 
 import com.hakan.core.HCore;
+import com.hakan.core.packet.PacketHandler;
 import com.hakan.core.packet.event.PacketEvent;
 import com.hakan.core.ui.anvil.AnvilGui;
 import com.hakan.core.ui.anvil.builder.AnvilBuilder;
@@ -12,6 +13,7 @@
 import com.hakan.core.ui.inventory.listeners.InventoryCloseListener;
 import com.hakan.core.ui.sign.SignGui;
 import com.hakan.core.ui.sign.builder.SignBuilder;
+import com.hakan.core.utils.Registry;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -33,7 +35,7 @@
  */
 public final class GuiHandler {
 
-    private static final Map<UUID, Gui> guiMap = new HashMap<>();
+    private static final Registry<UUID, Gui> guiMap = new Registry<>();
 
     /**
      * Initializes the inventory system.
@@ -77,10 +79,8 @@ public static void initialize() {
 
 
         //SIGN
-        HCore.registerEvent(PacketEvent.class)
-                .filter(event -> event.getType().equals(PacketEvent.Type.READ))
-                .filter(event -> event.getPacket().toString().contains("PacketPlayInUpdateSign"))
-                .consume(event -> GuiHandler.findSignByPlayer(event.getPlayer())
+        PacketHandler.registerListener(PacketEvent.Type.READ, "PacketPlayInUpdateSign",
+                event -> GuiHandler.findSignByPlayer(event.getPlayer())
                         .ifPresent(gui -> gui.receiveInput(event.getPacket())));
     }
 
@@ -96,7 +96,7 @@ public static void initialize() {
      */
     @Nonnull
     public static Map<UUID, Gui> getContentSafe() {
-        return new HashMap<>(guiMap);
+        return guiMap.copy();
     }
 
     /**
@@ -116,7 +116,7 @@ public static Map<UUID, Gui> getContent() {
      */
     @Nonnull
     public static Collection<Gui> getValuesSafe() {
-        return new ArrayList<>(guiMap.values());
+        return guiMap.copyValues();
     }
 
     /**
@@ -29,7 +29,7 @@ public final class ColorUtil {
     public static String colored(@Nonnull String message) {
         Validate.notNull(message, "message cannot be null!");
 
-        if (HCore.getProtocolVersion().isNewerOrEqual(ProtocolVersion.v1_16_R1)) {
+        if (message.indexOf('#') != -1 && HCore.getProtocolVersion().isNewerOrEqual(ProtocolVersion.v1_16_R1)) {
             Matcher matcher = HEX_PATTERN.matcher(message);
 
             while (matcher.find()) {
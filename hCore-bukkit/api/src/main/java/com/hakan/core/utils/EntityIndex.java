@@ -0,0 +1,71 @@
+package com.hakan.core.utils;
+
+import javax.annotation.Nonnull;
+import java.util.Optional;
+
+/**
+ * EntityIndex class to resolve
+ * client-side entity ids to their
+ * owners (hologram lines, npcs etc.)
+ * in constant time.
+ */
+public final class EntityIndex {
+
+    private static final IntMap<Object> owners = new IntMap<>(256);
+
+    /**
+     * Registers owner of entity id.
+     *
+     * @param entityID Entity id.
+     * @param owner    Owner.
+     */
+    public static void register(int entityID, @Nonnull Object owner) {
+        Validate.notNull(owner, "owner cannot be null!");
+        synchronized (owners) {
+            owners.put(entityID, owner);
+        }
+    }
+
+    /**
+     * Unregisters entity id if it
+     * is still owned by given owner.
+     *
+     * @param entityID Entity id.
+     * @param owner    Owner.
+     */
+    public static void unregister(int entityID, @Nonnull Object owner) {
+        Validate.notNull(owner, "owner cannot be null!");
+        synchronized (owners) {
+            if (owners.get(entityID) == owner)
+                owners.remove(entityID);
+        }
+    }
+
+    /**
+     * Finds owner of entity id.
+     *
+     * @param entityID Entity id.
+     * @return Owner as optional.
+     */
+    @Nonnull
+    public static Optional<Object> find(int entityID) {
+        synchronized (owners) {
+            return Optional.ofNullable(owners.get(entityID));
+        }
+    }
+
+    /**
+     * Finds owner of entity id
+     * if it is instance of given class.
+     *
+     * @param entityID Entity id.
+     * @param clazz    Class of owner.
+     * @param <T>      Owner type.
+     * @return Owner as optional.
+     */
+    @Nonnull
+    public static <T> Optional<T> find(int entityID, @Nonnull Class<T> clazz) {
+        Validate.notNull(clazz, "class cannot be null!");
+        return EntityIndex.find(entityID).filter(clazz::isInstance).map(clazz::cast);
+    }
+}
@@ -0,0 +1,110 @@
+package com.hakan.core.utils;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FieldSetter class to set fields of a
+ * class without looking them up on each
+ * call. All instance fields of the class
+ * are resolved to method handles once,
+ * when setter of class is created.
+ */
+public final class FieldSetter {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final Map<Class<?>, FieldSetter> setters = new ConcurrentHashMap<>();
+
+    /**
+     * Gets setter of class, creates
+     * it if it is not created.
+     *
+     * @param clazz Class.
+     * @return Field setter.
+     */
+    @Nonnull
+    public static FieldSetter of(@Nonnull Class<?> clazz) {
+        Validate.notNull(clazz, "class cannot be null!");
+        return setters.computeIfAbsent(clazz, FieldSetter::new);
+    }
+
+    /**
+     * Resolves setter of field. If direct
+     * setter is not allowed, for example final
+     * fields in some versions, it falls back
+     * to {@link Field#set(Object, Object)}.
+     *
+     * @param field Field.
+     * @return Method handle.
+     */
+    @Nonnull
+    private static MethodHandle resolve(@Nonnull Field field) {
+        try {
+            field.setAccessible(true);
+            try {
+                return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                return MethodHandles.lookup().findVirtual(Field.class, "set", SETTER_TYPE).bindTo(field);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("field " + field.getName() + " cannot be resolved!", e);
+        }
+    }
+
+
+    private final Class<?> clazz;
+    private final Map<String, MethodHandle> handles;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param clazz Class.
+     */
+    private FieldSetter(@Nonnull Class<?> clazz) {
+        this.clazz = clazz;
+        this.handles = new HashMap<>();
+
+        for (Field field : clazz.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()))
+                this.handles.put(field.getName(), FieldSetter.resolve(field));
+        }
+    }
+
+    /**
+     * Gets class of setter.
+     *
+     * @return Class.
+     */
+    @Nonnull
+    public Class<?> getType() {
+        return this.clazz;
+    }
+
+    /**
+     * Sets field value.
+     *
+     * @param object    Object.
+     * @param fieldName Field name.
+     * @param value     Value.
+     */
+    public void set(@Nonnull Object object,
+                    @Nonnull String fieldName,
+                    @Nonnull Object value) {
+        MethodHandle handle = this.handles.get(fieldName);
+        if (handle == null)
+            throw new IllegalArgumentException("field " + fieldName + " does not exist in " + this.clazz.getName() + "!");
+
+        try {
+            handle.invokeExact(object, value);
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.hakan.core.utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map with
+ * primitive long keys. It does not
+ * box keys and uses linear probing
+ * with backward shift deletion.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <V> Value type.
+ */
+@SuppressWarnings({"unchecked"})
+public final class LongMap<V> {
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Creates new instance of this class.
+     */
+    public LongMap() {
+        this(16);
+    }
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param expectedSize Expected size.
+     */
+    public LongMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Gets size of map.
+     *
+     * @return Size.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks if map is empty.
+     *
+     * @return If map is empty, returns true.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Checks if map contains key.
+     *
+     * @param key Key.
+     * @return If map contains key, returns true.
+     */
+    public boolean containsKey(long key) {
+        return this.indexOf(key) != -1;
+    }
+
+    /**
+     * Gets value of key.
+     *
+     * @param key Key.
+     * @return Value, or null if not found.
+     */
+    @Nullable
+    public V get(long key) {
+        int index = this.indexOf(key);
+        return (index != -1) ? (V) this.values[index] : null;
+    }
+
+    /**
+     * Puts value to key.
+     *
+     * @param key   Key.
+     * @param value Value.
+     * @return Old value, or null.
+     */
+    @Nullable
+    public V put(long key, @Nonnull V value) {
+        Validate.notNull(value, "value cannot be null!");
+
+        int index = LongMap.hash(key) & this.mask;
+        while (this.values[index] != null) {
+            if (this.keys[index] == key) {
+                V old = (V) this.values[index];
+                this.values[index] = value;
+                return old;
+            }
+            index = (index + 1) & this.mask;
+        }
+
+        this.keys[index] = key;
+        this.values[index] = value;
+        if (++this.size * 2 > this.keys.length)
+            this.resize(this.keys.length << 1);
+        return null;
+    }
+
+    /**
+     * Removes key from map.
+     *
+     * @param key Key.
+     * @return Removed value, or null.
+     */
+    @Nullable
+    public V remove(long key) {
+        int gap = this.indexOf(key);
+        if (gap == -1)
+            return null;
+
+        V old = (V) this.values[gap];
+        this.values[gap] = null;
+        this.size--;
+
+        int index = gap;
+        while (true) {
+            index = (index + 1) & this.mask;
+            if (this.values[index] == null)
+                return old;
+
+            int home = LongMap.hash(this.keys[index]) & this.mask;
+            boolean movable = (index > gap) ? (home <= gap || home > index) : (home <= gap && home > index);
+            if (movable) {
+                this.keys[gap] = this.keys[index];
+                this.values[gap] = this.values[index];
+                this.values[index] = null;
+                gap = index;
+            }
+        }
+    }
+
+    /**
+     * Removes all keys from map
+     * and keeps its capacity.
+     */
+    public void clear() {
+        if (this.size == 0)
+            return;
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    /**
+     * Finds slot of key.
+     *
+     * @param key Key.
+     * @return Slot index, or -1 if not found.
+     */
+    private int indexOf(long key) {
+        int index = LongMap.hash(key) & this.mask;
+        while (this.values[index] != null) {
+            if (this.keys[index] == key)
+                return index;
+            index = (index + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Resizes table and re-inserts
+     * all entries.
+     *
+     * @param capacity New capacity.
+     */
+    private void resize(int capacity) {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == null)
+                continue;
+
+            int index = LongMap.hash(oldKeys[i]) & this.mask;
+            while (this.values[index] != null)
+                index = (index + 1) & this.mask;
+            this.keys[index] = oldKeys[i];
+            this.values[index] = oldValues[i];
+        }
+    }
+
+    /**
+     * Spreads key.
+     *
+     * @param key Key.
+     * @return Hash.
+     */
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
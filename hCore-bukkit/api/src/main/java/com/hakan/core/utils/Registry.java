@@ -0,0 +1,68 @@
+package com.hakan.core.utils;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry class to keep handler
+ * contents. Reads are lock-free and
+ * iteration is weakly consistent, so
+ * contents can be iterated from async
+ * tasks while main thread mutates them
+ * without copying.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ */
+public final class Registry<K, V> extends ConcurrentHashMap<K, V> {
+
+    /**
+     * {@inheritDoc}
+     */
+    public Registry() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Registry(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * Finds value by key.
+     *
+     * @param key Key.
+     * @return Value as optional.
+     */
+    @Nonnull
+    public Optional<V> find(@Nonnull K key) {
+        return Optional.ofNullable(super.get(Validate.notNull(key, "key cannot be null!")));
+    }
+
+    /**
+     * Copies content to a new map.
+     *
+     * @return Copy of content.
+     */
+    @Nonnull
+    public Map<K, V> copy() {
+        return new HashMap<>(this);
+    }
+
+    /**
+     * Copies values to a new list.
+     *
+     * @return Copy of values.
+     */
+    @Nonnull
+    public Collection<V> copyValues() {
+        return new ArrayList<>(super.values());
+    }
+}
@@ -0,0 +1,209 @@
+package com.hakan.core.utils;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Open addressing hash set for UUIDs.
+ * It uses linear probing and backward
+ * shift deletion, so it can be cleared
+ * and reused without allocating.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class UUIDSet {
+
+    private UUID[] keys;
+    private int mask;
+    private int size;
+
+    /**
+     * Creates new instance of this class.
+     */
+    public UUIDSet() {
+        this(16);
+    }
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param expectedSize Expected size.
+     */
+    public UUIDSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new UUID[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Gets size of set.
+     *
+     * @return Size.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks if set is empty.
+     *
+     * @return If set is empty, returns true.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Checks if set contains uid.
+     *
+     * @param uid UID.
+     * @return If set contains uid, returns true.
+     */
+    public boolean contains(@Nonnull UUID uid) {
+        return this.indexOf(Validate.notNull(uid, "uid cannot be null!")) != -1;
+    }
+
+    /**
+     * Adds uid to set.
+     *
+     * @param uid UID.
+     * @return If uid is added, returns true.
+     */
+    public boolean add(@Nonnull UUID uid) {
+        Validate.notNull(uid, "uid cannot be null!");
+
+        int index = UUIDSet.hash(uid) & this.mask;
+        while (this.keys[index] != null) {
+            if (this.keys[index].equals(uid))
+                return false;
+            index = (index + 1) & this.mask;
+        }
+
+        this.keys[index] = uid;
+        if (++this.size * 2 > this.keys.length)
+            this.resize(this.keys.length << 1);
+        return true;
+    }
+
+    /**
+     * Removes uid from set.
+     *
+     * @param uid UID.
+     * @return If uid is removed, returns true.
+     */
+    public boolean remove(@Nonnull UUID uid) {
+        int gap = this.indexOf(Validate.notNull(uid, "uid cannot be null!"));
+        if (gap == -1)
+            return false;
+
+        this.keys[gap] = null;
+        this.size--;
+
+        int index = gap;
+        while (true) {
+            index = (index + 1) & this.mask;
+            UUID key = this.keys[index];
+            if (key == null)
+                return true;
+
+            int home = UUIDSet.hash(key) & this.mask;
+            boolean movable = (index > gap) ? (home <= gap || home > index) : (home <= gap && home > index);
+            if (movable) {
+                this.keys[gap] = key;
+                this.keys[index] = null;
+                gap = index;
+            }
+        }
+    }
+
+    /**
+     * Removes all uids from set
+     * and keeps its capacity.
+     */
+    public void clear() {
+        if (this.size == 0)
+            return;
+        Arrays.fill(this.keys, null);
+        this.size = 0;
+    }
+
+    /**
+     * Calls consumer for every uid.
+     * Set must not be modified
+     * while iterating.
+     *
+     * @param consumer Consumer.
+     */
+    public void forEach(@Nonnull Consumer<UUID> consumer) {
+        Validate.notNull(consumer, "consumer cannot be null!");
+        for (UUID key : this.keys) {
+            if (key != null)
+                consumer.accept(key);
+        }
+    }
+
+    /**
+     * Copies uids to a new hash set.
+     *
+     * @return Hash set.
+     */
+    @Nonnull
+    public Set<UUID> toSet() {
+        Set<UUID> set = new HashSet<>(Math.max(16, this.size * 2));
+        this.forEach(set::add);
+        return set;
+    }
+
+    /**
+     * Finds slot of uid.
+     *
+     * @param uid UID.
+     * @return Slot index, or -1 if not found.
+     */
+    private int indexOf(@Nonnull UUID uid) {
+        int index = UUIDSet.hash(uid) & this.mask;
+        while (this.keys[index] != null) {
+            if (this.keys[index].equals(uid))
+                return index;
+            index = (index + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Resizes table and re-inserts
+     * all uids.
+     *
+     * @param capacity New capacity.
+     */
+    private void resize(int capacity) {
+        UUID[] old = this.keys;
+        this.keys = new UUID[capacity];
+        this.mask = capacity - 1;
+
+        for (UUID key : old) {
+            if (key == null)
+                continue;
+
+            int index = UUIDSet.hash(key) & this.mask;
+            while (this.keys[index] != null)
+                index = (index + 1) & this.mask;
+            this.keys[index] = key;
+        }
+    }
+
+    /**
+     * Spreads hash code of uid.
+     *
+     * @param uid UID.
+     * @return Hash.
+     */
+    private static int hash(@Nonnull UUID uid) {
+        int hash = uid.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -3,8 +3,9 @@
 import com.hakan.core.HCore;
 import com.hakan.core.scoreboard.Scoreboard;
 import com.hakan.core.scoreboard.ScoreboardHandler;
-import com.hakan.core.utils.ColorUtil;
-import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.scoreboard.encoder.LegacyLineEncoder;
+import com.hakan.core.scoreboard.encoder.LineEncoder;
+import com.hakan.core.utils.FieldSetter;
 import net.minecraft.server.v1_10_R1.IScoreboardCriteria;
 import net.minecraft.server.v1_10_R1.PacketPlayOutScoreboardDisplayObjective;
 import net.minecraft.server.v1_10_R1.PacketPlayOutScoreboardObjective;
@@ -21,7 +22,11 @@
  */
 public final class Scoreboard_v1_10_R1 extends Scoreboard {
 
-    private int mode = 0;
+    private static final LineEncoder LINE_ENCODER = new LegacyLineEncoder();
+    private static final FieldSetter OBJECTIVE_FIELDS = FieldSetter.of(PacketPlayOutScoreboardObjective.class);
+    private static final FieldSetter DISPLAY_FIELDS = FieldSetter.of(PacketPlayOutScoreboardDisplayObjective.class);
+    private static final FieldSetter TEAM_FIELDS = FieldSetter.of(PacketPlayOutScoreboardTeam.class);
+    private static final FieldSetter SCORE_FIELDS = FieldSetter.of(PacketPlayOutScoreboardScore.class);
 
     /**
      * {@inheritDoc}
@@ -35,52 +40,54 @@ private Scoreboard_v1_10_R1(@Nonnull Player player, @Nonnull String title) {
      */
     @Nonnull
     @Override
-    public Scoreboard show() {
+    protected Object[] createTitlePackets(@Nonnull String title, boolean created) {
         PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective();
-        ReflectionUtils.setField(objective, "a", "board");
-        ReflectionUtils.setField(objective, "b", super.title);
-        ReflectionUtils.setField(objective, "c", IScoreboardCriteria.EnumScoreboardHealthDisplay.INTEGER);
-        ReflectionUtils.setField(objective, "d", this.mode);
+        OBJECTIVE_FIELDS.set(objective, "a", "board");
+        OBJECTIVE_FIELDS.set(objective, "b", title);
+        OBJECTIVE_FIELDS.set(objective, "c", IScoreboardCriteria.EnumScoreboardHealthDisplay.INTEGER);
+        OBJECTIVE_FIELDS.set(objective, "d", (created) ? 2 : 0);
 
-        PacketPlayOutScoreboardDisplayObjective displayObjective = new PacketPlayOutScoreboardDisplayObjective();
-        ReflectionUtils.setField(displayObjective, "a", 1);
-        ReflectionUtils.setField(displayObjective, "b", "board");
-
-        HCore.sendPacket(super.player, objective, displayObjective);
-
-        int length = super.lines.length;
-        for (int i = 0; i < length; i++) {
-            String line = super.getLine(i);
-            if (line == null) continue;
-
-            String[] split = super.splitLine(i, line);
-            String prefix = ColorUtil.colored(split[0]);
-            String middle = ColorUtil.colored(split[1]);
-            String suffix = ColorUtil.colored(split[2]);
+        if (created)
+            return new Object[]{objective};
 
-            PacketPlayOutScoreboardTeam team = new PacketPlayOutScoreboardTeam();
-            ReflectionUtils.setField(team, "a", "team_" + i);
-            ReflectionUtils.setField(team, "b", "team_" + i);
-            ReflectionUtils.setField(team, "c", prefix);
-            ReflectionUtils.setField(team, "d", suffix);
-            ReflectionUtils.setField(team, "e", "always");
-            ReflectionUtils.setField(team, "f", "always");
-            ReflectionUtils.setField(team, "g", -1);
-            ReflectionUtils.setField(team, "h", (this.mode == 0) ? Collections.singletonList(middle) : new ArrayList<>());
-            ReflectionUtils.setField(team, "i", this.mode);
-            ReflectionUtils.setField(team, "j", 1);
-
-            PacketPlayOutScoreboardScore score = new PacketPlayOutScoreboardScore();
-            ReflectionUtils.setField(score, "a", middle);
-            ReflectionUtils.setField(score, "b", "board");
-            ReflectionUtils.setField(score, "c", 15 - i);
-            ReflectionUtils.setField(score, "d", PacketPlayOutScoreboardScore.EnumScoreboardAction.CHANGE);
-
-            HCore.sendPacket(super.player, team, score);
-        }
+        PacketPlayOutScoreboardDisplayObjective displayObjective = new PacketPlayOutScoreboardDisplayObjective();
+        DISPLAY_FIELDS.set(displayObjective, "a", 1);
+        DISPLAY_FIELDS.set(displayObjective, "b", "board");
+        return new Object[]{objective, displayObjective};
+    }
 
-        this.mode = 2;
-        return this;
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    protected Object[] createLinePackets(int line, @Nonnull String text, boolean created) {
+        String[] parts = LINE_ENCODER.encode(line, text);
+        String prefix = parts[0];
+        String middle = parts[1];
+        String suffix = parts[2];
+
+        PacketPlayOutScoreboardTeam team = new PacketPlayOutScoreboardTeam();
+        TEAM_FIELDS.set(team, "a", "team_" + line);
+        TEAM_FIELDS.set(team, "b", "team_" + line);
+        TEAM_FIELDS.set(team, "c", prefix);
+        TEAM_FIELDS.set(team, "d", suffix);
+        TEAM_FIELDS.set(team, "e", "always");
+        TEAM_FIELDS.set(team, "f", "always");
+        TEAM_FIELDS.set(team, "g", -1);
+        TEAM_FIELDS.set(team, "h", (created) ? new ArrayList<>() : Collections.singletonList(middle));
+        TEAM_FIELDS.set(team, "i", (created) ? 2 : 0);
+        TEAM_FIELDS.set(team, "j", 1);
+
+        if (created)
+            return new Object[]{team};
+
+        PacketPlayOutScoreboardScore score = new PacketPlayOutScoreboardScore();
+        SCORE_FIELDS.set(score, "a", middle);
+        SCORE_FIELDS.set(score, "b", "board");
+        SCORE_FIELDS.set(score, "c", 15 - line);
+        SCORE_FIELDS.set(score, "d", PacketPlayOutScoreboardScore.EnumScoreboardAction.CHANGE);
+        return new Object[]{team, score};
     }
 
     /**
@@ -90,8 +97,8 @@ public Scoreboard show() {
     @Override
     public Scoreboard delete() {
         PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective();
-        ReflectionUtils.setField(objective, "a", "board");
-        ReflectionUtils.setField(objective, "d", 1);
+        OBJECTIVE_FIELDS.set(objective, "a", "board");
+        OBJECTIVE_FIELDS.set(objective, "d", 1);
 
         HCore.sendPacket(super.player, objective);
         ScoreboardHandler.getContent().remove(super.player.getUniqueId());
@@ -30,8 +30,10 @@ public final class ItemLine_v1_11_R1 implements ItemLine {
     private World world;
     private ItemStack item;
     private final EntityItem nmsItem;
-    private final Hologram hologram;
+    private Hologram hologram;
     private final EntityArmorStand armorStand;
+    private Object[] showPackets;
+    private Object[] hidePackets;
 
     /**
      * {@inheritDoc}
@@ -69,6 +71,7 @@ public ItemStack getItem() {
     public void setItem(@Nonnull ItemStack item) {
         this.item = Validate.notNull(item, "item cannot be null!");
         this.nmsItem.setItemStack(CraftItemStack.asNMSCopy(this.item));
+        this.invalidate();
         HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
                 new PacketPlayOutEntityMetadata(this.nmsItem.getId(), this.nmsItem.getDataWatcher(), true));
     }
@@ -82,6 +85,14 @@ public Hologram getHologram() {
         return this.hologram;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHologram(@Nonnull Hologram hologram) {
+        this.hologram = Validate.notNull(hologram, "hologram cannot be null!");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -105,14 +116,23 @@ public Location getLocation() {
      */
     @Override
     public void setLocation(@Nonnull Location location) {
+        this.place(location);
+        HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
+                new PacketPlayOutEntityTeleport(this.armorStand));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void place(@Nonnull Location location) {
         Validate.notNull(location, "location cannot be null!");
 
         this.world = ((CraftWorld) Validate.notNull(location.getWorld())).getHandle();
         if (!this.world.equals(this.armorStand.getWorld())) this.armorStand.spawnIn(this.world);
         this.armorStand.setLocation(location.getX(), location.getY() - 0.48, location.getZ(), location.getYaw(), location.getPitch());
 
-        HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
-                new PacketPlayOutEntityTeleport(this.armorStand));
+        this.invalidate();
     }
 
     /**
@@ -121,6 +141,7 @@ public void setLocation(@Nonnull Location location) {
     @Override
     public void setMarker(boolean marker) {
         this.armorStand.setMarker(marker);
+        this.invalidate();
         HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
                 new PacketPlayOutEntityMetadata(this.armorStand.getId(), this.armorStand.getDataWatcher(), true));
     }
@@ -133,16 +154,7 @@ public void show(@Nonnull List<Player> players) {
         if (this.nmsItem != null) {
             this.armorStand.passengers.add(this.nmsItem);
 
-            HCore.sendPacket(Validate.notNull(players, "players cannot be null!"),
-                    new PacketPlayOutSpawnEntityLiving(this.armorStand),
-                    new PacketPlayOutEntityMetadata(this.armorStand.getId(), this.armorStand.getDataWatcher(), true),
-                    new PacketPlayOutEntityTeleport(this.armorStand),
-
-                    new PacketPlayOutEntityDestroy(this.nmsItem.getId()),
-                    new PacketPlayOutSpawnEntity(this.nmsItem, 2),
-                    new PacketPlayOutEntityTeleport(this.nmsItem),
-                    new PacketPlayOutEntityMetadata(this.nmsItem.getId(), this.nmsItem.getDataWatcher(), true),
-                    new PacketPlayOutMount(this.armorStand));
+            HCore.sendPacket(Validate.notNull(players, "players cannot be null!"), this.getShowPackets());
         }
     }
 
@@ -151,8 +163,54 @@ public void show(@Nonnull List<Player> players) {
      */
     @Override
     public void hide(@Nonnull List<Player> players) {
-        HCore.sendPacket(Validate.notNull(players, "players cannot be null!"),
+        HCore.sendPacket(Validate.notNull(players, "players cannot be null!"), this.getHidePackets());
+    }
+
+    /**
+     * Gets spawn packets of line. Packets
+     * are cached until state of line changes,
+     * so all viewers share same instances.
+     *
+     * @return Spawn packets.
+     */
+    @Nonnull
+    private synchronized Object[] getShowPackets() {
+        if (this.showPackets == null) {
+            this.showPackets = new Object[]{
+                new PacketPlayOutSpawnEntityLiving(this.armorStand),
+                new PacketPlayOutEntityMetadata(this.armorStand.getId(), this.armorStand.getDataWatcher(), true),
+                new PacketPlayOutEntityTeleport(this.armorStand),
+
                 new PacketPlayOutEntityDestroy(this.nmsItem.getId()),
-                new PacketPlayOutEntityDestroy(this.armorStand.getId()));
+                new PacketPlayOutSpawnEntity(this.nmsItem, 2),
+                new PacketPlayOutEntityTeleport(this.nmsItem),
+                new PacketPlayOutEntityMetadata(this.nmsItem.getId(), this.nmsItem.getDataWatcher(), true),
+                new PacketPlayOutMount(this.armorStand)
+            };
+        }
+        return this.showPackets;
+    }
+
+    /**
+     * Gets destroy packets of line.
+     *
+     * @return Destroy packets.
+     */
+    @Nonnull
+    private synchronized Object[] getHidePackets() {
+        if (this.hidePackets == null) {
+            this.hidePackets = new Object[]{
+                new PacketPlayOutEntityDestroy(this.nmsItem.getId()),
+                new PacketPlayOutEntityDestroy(this.armorStand.getId())
+            };
+        }
+        return this.hidePackets;
+    }
+
+    /**
+     * Invalidates cached spawn packets.
+     */
+    private synchronized void invalidate() {
+        this.showPackets = null;
     }
 }
@@ -22,9 +22,11 @@
 public final class TextLine_v1_11_R1 implements TextLine {
 
     private String text;
-    private final Hologram hologram;
+    private Hologram hologram;
     private final EntityArmorStand click;
     private final EntityArmorStand armorStand;
+    private Object[] showPackets;
+    private Object[] hidePackets;
 
     /**
      * {@inheritDoc}
@@ -69,6 +71,7 @@ public String getText() {
     public void setText(@Nonnull String text) {
         this.text = Validate.notNull(text, "text cannot be null!");
         this.armorStand.setCustomName(this.text);
+        this.invalidate();
         HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
                 new PacketPlayOutEntityMetadata(this.armorStand.getId(), this.armorStand.getDataWatcher(), true));
     }
@@ -82,6 +85,14 @@ public Hologram getHologram() {
         return this.hologram;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHologram(@Nonnull Hologram hologram) {
+        this.hologram = Validate.notNull(hologram, "hologram cannot be null!");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -104,6 +115,17 @@ public Location getLocation() {
      */
     @Override
     public void setLocation(@Nonnull Location location) {
+        this.place(location);
+        HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
+                new PacketPlayOutEntityTeleport(this.armorStand),
+                new PacketPlayOutEntityTeleport(this.click));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void place(@Nonnull Location location) {
         Validate.notNull(location, "location cannot be null!");
 
         World world = ((CraftWorld) Validate.notNull(location.getWorld())).getHandle();
@@ -112,9 +134,7 @@ public void setLocation(@Nonnull Location location) {
         this.click.setLocation(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
         this.armorStand.setLocation(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
 
-        HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
-                new PacketPlayOutEntityTeleport(this.armorStand),
-                new PacketPlayOutEntityTeleport(this.click));
+        this.invalidate();
     }
 
     /**
@@ -124,6 +144,7 @@ public void setLocation(@Nonnull Location location) {
     public void setMarker(boolean marker) {
         this.armorStand.setMarker(marker);
         this.click.setMarker(marker);
+        this.invalidate();
         HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
                 new PacketPlayOutEntityMetadata(this.click.getId(), this.click.getDataWatcher(), true),
                 new PacketPlayOutEntityMetadata(this.armorStand.getId(), this.armorStand.getDataWatcher(), true));
@@ -134,23 +155,60 @@ public void setMarker(boolean marker) {
      */
     @Override
     public void show(@Nonnull List<Player> players) {
-        HCore.sendPacket(Validate.notNull(players, "players cannot be null!"),
+        HCore.sendPacket(Validate.notNull(players, "players cannot be null!"), this.getShowPackets());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void hide(@Nonnull List<Player> players) {
+        HCore.sendPacket(Validate.notNull(players, "players cannot be null!"), this.getHidePackets());
+    }
+
+    /**
+     * Gets spawn packets of line. Packets
+     * are cached until state of line changes,
+     * so all viewers share same instances.
+     *
+     * @return Spawn packets.
+     */
+    @Nonnull
+    private synchronized Object[] getShowPackets() {
+        if (this.showPackets == null) {
+            this.showPackets = new Object[]{
                 new PacketPlayOutSpawnEntityLiving(this.armorStand),
                 new PacketPlayOutEntityMetadata(this.armorStand.getId(), this.armorStand.getDataWatcher(), true),
                 new PacketPlayOutEntityTeleport(this.armorStand),
 
                 new PacketPlayOutSpawnEntityLiving(this.click),
                 new PacketPlayOutEntityMetadata(this.click.getId(), this.click.getDataWatcher(), true),
-                new PacketPlayOutEntityTeleport(this.click));
+                new PacketPlayOutEntityTeleport(this.click)
+            };
+        }
+        return this.showPackets;
     }
 
     /**
-     * {@inheritDoc}
+     * Gets destroy packets of line.
+     *
+     * @return Destroy packets.
      */
-    @Override
-    public void hide(@Nonnull List<Player> players) {
-        HCore.sendPacket(Validate.notNull(players, "players cannot be null!"),
+    @Nonnull
+    private synchronized Object[] getHidePackets() {
+        if (this.hidePackets == null) {
+            this.hidePackets = new Object[]{
                 new PacketPlayOutEntityDestroy(this.armorStand.getId()),
-                new PacketPlayOutEntityDestroy(this.click.getId()));
+                new PacketPlayOutEntityDestroy(this.click.getId())
+            };
+        }
+        return this.hidePackets;
+    }
+
+    /**
+     * Invalidates cached spawn packets.
+     */
+    private synchronized void invalidate() {
+        this.showPackets = null;
     }
 }
@@ -2,6 +2,7 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.npc.Npc;
+import com.hakan.core.npc.NpcHandler;
 import com.hakan.core.skin.Skin;
 import com.hakan.core.utils.Validate;
 import com.mojang.authlib.GameProfile;
@@ -20,7 +21,6 @@
 import net.minecraft.server.v1_11_R1.PacketPlayOutEntityMetadata;
 import net.minecraft.server.v1_11_R1.PacketPlayOutEntityTeleport;
 import net.minecraft.server.v1_11_R1.PacketPlayOutNamedEntitySpawn;
-import net.minecraft.server.v1_11_R1.PacketPlayOutPlayerInfo;
 import net.minecraft.server.v1_11_R1.PacketPlayOutScoreboardTeam;
 import net.minecraft.server.v1_11_R1.PlayerInteractManager;
 import net.minecraft.server.v1_11_R1.Scoreboard;
@@ -35,6 +35,7 @@
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -95,6 +96,15 @@ public int getID() {
         return this.nmsPlayer.getId();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object getHandle() {
+        return this.nmsPlayer;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -173,17 +183,22 @@ public void show(@Nonnull List<Player> players) {
         dataWatcher.set(new DataWatcherObject<>(13, DataWatcherRegistry.a), (byte) 127);
 
         players.forEach(player -> this.scoreboard.getPlayerNameSet().add(player.getName()));
-        HCore.sendPacket(players,
-                new PacketPlayOutPlayerInfo(PacketPlayOutPlayerInfo.EnumPlayerInfoAction.ADD_PLAYER, this.nmsPlayer),
+        NpcHandler.getInfoQueue().show(players, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void spawn(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+
+        DataWatcher dataWatcher = this.nmsPlayer.getDataWatcher();
+        HCore.sendPacket(player,
                 new PacketPlayOutNamedEntitySpawn(this.nmsPlayer),
                 new PacketPlayOutEntityMetadata(this.getID(), dataWatcher, true),
                 new PacketPlayOutScoreboardTeam(this.scoreboard, 0));
-        HCore.asyncScheduler().after(5)
-                .run(() -> HCore.sendPacket(players, new PacketPlayOutPlayerInfo(PacketPlayOutPlayerInfo.EnumPlayerInfoAction.REMOVE_PLAYER, this.nmsPlayer)));
-
-        HCore.asyncScheduler().after(2)
-                .run(() -> this.updateLocation(players));
-        this.updateEquipments(players);
+        this.updateEquipments(Collections.singletonList(player));
     }
 
     /**
@@ -193,6 +208,8 @@ public void show(@Nonnull List<Player> players) {
     public void hide(@Nonnull List<Player> players) {
         Validate.notNull(players, "players cannot be null!");
 
+        NpcHandler.getInfoQueue().cancel(players, this);
+
         players.forEach(player -> this.scoreboard.getPlayerNameSet().remove(player.getName()));
         HCore.sendPacket(players, new PacketPlayOutEntityDestroy(this.getID()),
                 new PacketPlayOutScoreboardTeam(this.scoreboard, 0));
@@ -0,0 +1,56 @@
+package com.hakan.core.npc.entity;
+
+import com.hakan.core.utils.Validate;
+import net.minecraft.server.v1_13_R1.EntityPlayer;
+import net.minecraft.server.v1_13_R1.PacketPlayOutPlayerInfo;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@inheritDoc}
+ */
+public final class NpcInfoFactory_v1_13_R1 implements NpcInfoFactory {
+
+    /**
+     * Gets nms players of entities.
+     *
+     * @param entities Npc entities.
+     * @return Nms players.
+     */
+    @Nonnull
+    private static List<EntityPlayer> getHandles(@Nonnull List<NpcEntity> entities) {
+        Validate.notNull(entities, "entities cannot be null!");
+
+        List<EntityPlayer> handles = new ArrayList<>(entities.size());
+        entities.forEach(entity -> handles.add((EntityPlayer) entity.getHandle()));
+        return handles;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object createAdd(@Nonnull Player player, @Nonnull List<NpcEntity> entities) {
+        Validate.notNull(player, "player cannot be null!");
+
+        List<EntityPlayer> handles = NpcInfoFactory_v1_13_R1.getHandles(entities);
+        return new PacketPlayOutPlayerInfo(PacketPlayOutPlayerInfo.EnumPlayerInfoAction.ADD_PLAYER, handles);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object createRemove(@Nonnull Player player, @Nonnull List<NpcEntity> entities) {
+        Validate.notNull(player, "player cannot be null!");
+
+        List<EntityPlayer> handles = NpcInfoFactory_v1_13_R1.getHandles(entities);
+        return new PacketPlayOutPlayerInfo(PacketPlayOutPlayerInfo.EnumPlayerInfoAction.REMOVE_PLAYER, handles);
+    }
+}
@@ -3,8 +3,9 @@
 import com.hakan.core.HCore;
 import com.hakan.core.scoreboard.Scoreboard;
 import com.hakan.core.scoreboard.ScoreboardHandler;
-import com.hakan.core.utils.ColorUtil;
-import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.scoreboard.encoder.ComponentLineEncoder;
+import com.hakan.core.scoreboard.encoder.LineEncoder;
+import com.hakan.core.utils.FieldSetter;
 import net.minecraft.server.v1_13_R1.EnumChatFormat;
 import net.minecraft.server.v1_13_R1.IScoreboardCriteria;
 import net.minecraft.server.v1_13_R1.PacketPlayOutScoreboardDisplayObjective;
@@ -24,7 +25,11 @@
  */
 public final class Scoreboard_v1_13_R1 extends Scoreboard {
 
-    private int mode = 0;
+    private static final LineEncoder LINE_ENCODER = new ComponentLineEncoder();
+    private static final FieldSetter OBJECTIVE_FIELDS = FieldSetter.of(PacketPlayOutScoreboardObjective.class);
+    private static final FieldSetter DISPLAY_FIELDS = FieldSetter.of(PacketPlayOutScoreboardDisplayObjective.class);
+    private static final FieldSetter TEAM_FIELDS = FieldSetter.of(PacketPlayOutScoreboardTeam.class);
+    private static final FieldSetter SCORE_FIELDS = FieldSetter.of(PacketPlayOutScoreboardScore.class);
 
     /**
      * {@inheritDoc}
@@ -38,49 +43,52 @@ private Scoreboard_v1_13_R1(@Nonnull Player player, @Nonnull String title) {
      */
     @Nonnull
     @Override
-    public Scoreboard show() {
+    protected Object[] createTitlePackets(@Nonnull String title, boolean created) {
         PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective();
-        ReflectionUtils.setField(objective, "a", "board");
-        ReflectionUtils.setField(objective, "b", CraftChatMessage.fromStringOrNull(super.title));
-        ReflectionUtils.setField(objective, "c", IScoreboardCriteria.EnumScoreboardHealthDisplay.INTEGER);
-        ReflectionUtils.setField(objective, "d", this.mode);
+        OBJECTIVE_FIELDS.set(objective, "a", "board");
+        OBJECTIVE_FIELDS.set(objective, "b", CraftChatMessage.fromStringOrNull(title));
+        OBJECTIVE_FIELDS.set(objective, "c", IScoreboardCriteria.EnumScoreboardHealthDisplay.INTEGER);
+        OBJECTIVE_FIELDS.set(objective, "d", (created) ? 2 : 0);
 
-        PacketPlayOutScoreboardDisplayObjective displayObjective = new PacketPlayOutScoreboardDisplayObjective();
-        ReflectionUtils.setField(displayObjective, "a", 1);
-        ReflectionUtils.setField(displayObjective, "b", "board");
-
-        HCore.sendPacket(super.player, objective, displayObjective);
-
-        int length = super.lines.length;
-        for (int i = 0; i < length; i++) {
-            String line = super.getLine(i);
-            if (line == null) continue;
-
-            String color = (i >= 10) ? "§" + new String[]{"a", "b", "c", "d", "e", "f"}[i - 10] : "§" + i;
+        if (created)
+            return new Object[]{objective};
 
-            PacketPlayOutScoreboardTeam team = new PacketPlayOutScoreboardTeam();
-            ReflectionUtils.setField(team, "a", "team_" + i);
-            ReflectionUtils.setField(team, "b", CraftChatMessage.fromStringOrNull("team_" + i));
-            ReflectionUtils.setField(team, "c", CraftChatMessage.fromStringOrNull(ColorUtil.colored(line)));
-            ReflectionUtils.setField(team, "d", CraftChatMessage.fromStringOrNull(" "));
-            ReflectionUtils.setField(team, "e", "always");
-            ReflectionUtils.setField(team, "f", "always");
-            ReflectionUtils.setField(team, "g", EnumChatFormat.RESET);
-            ReflectionUtils.setField(team, "h", (this.mode == 0) ? Collections.singletonList(color) : new ArrayList<>());
-            ReflectionUtils.setField(team, "i", this.mode);
-            ReflectionUtils.setField(team, "j", 1);
-
-            PacketPlayOutScoreboardScore score = new PacketPlayOutScoreboardScore();
-            ReflectionUtils.setField(score, "a", color);
-            ReflectionUtils.setField(score, "b", "board");
-            ReflectionUtils.setField(score, "c", 15 - i);
-            ReflectionUtils.setField(score, "d", ScoreboardServer.Action.CHANGE);
-
-            HCore.sendPacket(super.player, team, score);
-        }
+        PacketPlayOutScoreboardDisplayObjective displayObjective = new PacketPlayOutScoreboardDisplayObjective();
+        DISPLAY_FIELDS.set(displayObjective, "a", 1);
+        DISPLAY_FIELDS.set(displayObjective, "b", "board");
+        return new Object[]{objective, displayObjective};
+    }
 
-        this.mode = 2;
-        return this;
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    protected Object[] createLinePackets(int line, @Nonnull String text, boolean created) {
+        String[] parts = LINE_ENCODER.encode(line, text);
+        String color = parts[1];
+
+        PacketPlayOutScoreboardTeam team = new PacketPlayOutScoreboardTeam();
+        TEAM_FIELDS.set(team, "a", "team_" + line);
+        TEAM_FIELDS.set(team, "b", CraftChatMessage.fromStringOrNull("team_" + line));
+        TEAM_FIELDS.set(team, "c", CraftChatMessage.fromStringOrNull(parts[0]));
+        TEAM_FIELDS.set(team, "d", CraftChatMessage.fromStringOrNull(" "));
+        TEAM_FIELDS.set(team, "e", "always");
+        TEAM_FIELDS.set(team, "f", "always");
+        TEAM_FIELDS.set(team, "g", EnumChatFormat.RESET);
+        TEAM_FIELDS.set(team, "h", (created) ? new ArrayList<>() : Collections.singletonList(color));
+        TEAM_FIELDS.set(team, "i", (created) ? 2 : 0);
+        TEAM_FIELDS.set(team, "j", 1);
+
+        if (created)
+            return new Object[]{team};
+
+        PacketPlayOutScoreboardScore score = new PacketPlayOutScoreboardScore();
+        SCORE_FIELDS.set(score, "a", color);
+        SCORE_FIELDS.set(score, "b", "board");
+        SCORE_FIELDS.set(score, "c", 15 - line);
+        SCORE_FIELDS.set(score, "d", ScoreboardServer.Action.CHANGE);
+        return new Object[]{team, score};
     }
 
     /**
@@ -90,8 +98,8 @@ public Scoreboard show() {
     @Override
     public Scoreboard delete() {
         PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective();
-        ReflectionUtils.setField(objective, "a", "board");
-        ReflectionUtils.setField(objective, "d", 1);
+        OBJECTIVE_FIELDS.set(objective, "a", "board");
+        OBJECTIVE_FIELDS.set(objective, "d", 1);
 
         HCore.sendPacket(super.player, objective);
         ScoreboardHandler.getContent().remove(super.player.getUniqueId());
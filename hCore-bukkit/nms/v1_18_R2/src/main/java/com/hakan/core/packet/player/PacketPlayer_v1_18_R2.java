@@ -1,7 +1,7 @@
 package com.hakan.core.packet.player;
 
+import com.hakan.core.packet.PacketHandler;
 import com.hakan.core.packet.event.PacketEvent;
-import com.hakan.core.packet.utils.PacketUtils;
 import com.hakan.core.utils.Validate;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -50,19 +50,13 @@ public void register() {
             super.pipeline = this.connection.a.m.pipeline().addBefore("packet_handler", CHANNEL + super.player.getUniqueId(), new ChannelDuplexHandler() {
                 @Override
                 public void channelRead(ChannelHandlerContext channelHandlerContext, Object msg) throws Exception {
-                    PacketEvent packetEvent = new PacketEvent(player, msg, PacketEvent.Type.READ);
-                    PacketUtils.callEvent(packetEvent);
-
-                    if (packetEvent.isCancelled()) return;
+                    if (!PacketHandler.handle(player, msg, PacketEvent.Type.READ)) return;
                     super.channelRead(channelHandlerContext, msg);
                 }
 
                 @Override
                 public void write(ChannelHandlerContext channelHandlerContext, Object o, ChannelPromise channelPromise) throws Exception {
-                    PacketEvent packetEvent = new PacketEvent(player, o, PacketEvent.Type.WRITE);
-                    PacketUtils.callEvent(packetEvent);
-
-                    if (packetEvent.isCancelled()) return;
+                    if (!PacketHandler.handle(player, o, PacketEvent.Type.WRITE)) return;
                     super.write(channelHandlerContext, o, channelPromise);
                 }
             });
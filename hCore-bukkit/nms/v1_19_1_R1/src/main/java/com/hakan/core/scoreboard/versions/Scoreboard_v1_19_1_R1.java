@@ -3,8 +3,9 @@
 import com.hakan.core.HCore;
 import com.hakan.core.scoreboard.Scoreboard;
 import com.hakan.core.scoreboard.ScoreboardHandler;
-import com.hakan.core.utils.ColorUtil;
-import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.scoreboard.encoder.ComponentLineEncoder;
+import com.hakan.core.scoreboard.encoder.LineEncoder;
+import com.hakan.core.utils.FieldSetter;
 import net.minecraft.EnumChatFormat;
 import net.minecraft.network.protocol.game.PacketPlayOutScoreboardDisplayObjective;
 import net.minecraft.network.protocol.game.PacketPlayOutScoreboardObjective;
@@ -27,13 +28,28 @@
  */
 public final class Scoreboard_v1_19_1_R1 extends Scoreboard {
 
-    private int mode = 0;
+    private static final LineEncoder LINE_ENCODER = new ComponentLineEncoder();
+    private static final FieldSetter OBJECTIVE_FIELDS = FieldSetter.of(PacketPlayOutScoreboardObjective.class);
+    private static final FieldSetter DISPLAY_FIELDS = FieldSetter.of(PacketPlayOutScoreboardDisplayObjective.class);
+    private static final FieldSetter TEAM_FIELDS = FieldSetter.of(PacketPlayOutScoreboardTeam.class);
+    private static final FieldSetter TEAM_INFO_FIELDS = FieldSetter.of(PacketPlayOutScoreboardTeam.b.class);
+
+
+    private final ScoreboardObjective scoreboardObjective;
+    private final ScoreboardTeam scoreboardTeam;
 
     /**
      * {@inheritDoc}
      */
     private Scoreboard_v1_19_1_R1(@Nonnull Player player, @Nonnull String title) {
         super(player, title);
+
+        net.minecraft.world.scores.Scoreboard scoreboard = new net.minecraft.world.scores.Scoreboard();
+        this.scoreboardObjective = scoreboard.a("",
+                IScoreboardCriteria.a,
+                CraftChatMessage.fromStringOrNull(" "),
+                IScoreboardCriteria.EnumScoreboardHealthDisplay.a);
+        this.scoreboardTeam = new ScoreboardTeam(new net.minecraft.world.scores.Scoreboard(), "team_");
     }
 
     /**
@@ -41,57 +57,51 @@ private Scoreboard_v1_19_1_R1(@Nonnull Player player, @Nonnull String title) {
      */
     @Nonnull
     @Override
-    public Scoreboard show() {
-        net.minecraft.world.scores.Scoreboard scoreboard = new net.minecraft.world.scores.Scoreboard();
-        ScoreboardObjective scoreboardObjective = scoreboard.a("",
-                IScoreboardCriteria.a,
-                CraftChatMessage.fromStringOrNull(" "),
-                IScoreboardCriteria.EnumScoreboardHealthDisplay.a);
-        ScoreboardTeam scoreboardTeam = new ScoreboardTeam(new net.minecraft.world.scores.Scoreboard(), "team_");
-
-
-        PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective(scoreboardObjective, 0);
-        ReflectionUtils.setField(objective, "d", "board");
-        ReflectionUtils.setField(objective, "e", CraftChatMessage.fromStringOrNull(super.title));
-        ReflectionUtils.setField(objective, "f", IScoreboardCriteria.EnumScoreboardHealthDisplay.a);
-        ReflectionUtils.setField(objective, "g", this.mode);
-
-        PacketPlayOutScoreboardDisplayObjective displayObjective = new PacketPlayOutScoreboardDisplayObjective(1, scoreboardObjective);
-        ReflectionUtils.setField(displayObjective, "a", 1);
-        ReflectionUtils.setField(displayObjective, "b", "board");
-
-        HCore.sendPacket(super.player, objective, displayObjective);
-
-
-        int length = super.lines.length;
-        for (int i = 0; i < length; i++) {
-            String line = super.getLine(i);
-            if (line == null) continue;
-
-            String color = (i >= 10) ? "§" + new String[]{"a", "b", "c", "d", "e", "f"}[i - 10] : "§" + i;
-
-            PacketPlayOutScoreboardTeam.b b = new PacketPlayOutScoreboardTeam.b(scoreboardTeam);
-            ReflectionUtils.setField(b, "a", CraftChatMessage.fromStringOrNull("team_" + i));
-            ReflectionUtils.setField(b, "b", CraftChatMessage.fromStringOrNull(ColorUtil.colored(line)));
-            ReflectionUtils.setField(b, "c", CraftChatMessage.fromStringOrNull(" "));
-            ReflectionUtils.setField(b, "d", "always");
-            ReflectionUtils.setField(b, "e", "always");
-            ReflectionUtils.setField(b, "f", EnumChatFormat.v);
-            ReflectionUtils.setField(b, "g", 1);
-
-            PacketPlayOutScoreboardTeam team = PacketPlayOutScoreboardTeam.a(scoreboardTeam);
-            ReflectionUtils.setField(team, "h", this.mode);
-            ReflectionUtils.setField(team, "i", "team_" + i);
-            ReflectionUtils.setField(team, "j", (this.mode == 0) ? Collections.singletonList(color) : new ArrayList<>());
-            ReflectionUtils.setField(team, "k", Optional.of(b));
-
-            PacketPlayOutScoreboardScore score = new PacketPlayOutScoreboardScore(ScoreboardServer.Action.a, "board", color, 15 - i);
-
-            HCore.sendPacket(super.player, team, score);
-        }
+    protected Object[] createTitlePackets(@Nonnull String title, boolean created) {
+        PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective(this.scoreboardObjective, 0);
+        OBJECTIVE_FIELDS.set(objective, "d", "board");
+        OBJECTIVE_FIELDS.set(objective, "e", CraftChatMessage.fromStringOrNull(title));
+        OBJECTIVE_FIELDS.set(objective, "f", IScoreboardCriteria.EnumScoreboardHealthDisplay.a);
+        OBJECTIVE_FIELDS.set(objective, "g", (created) ? 2 : 0);
+
+        if (created)
+            return new Object[]{objective};
+
+        PacketPlayOutScoreboardDisplayObjective displayObjective = new PacketPlayOutScoreboardDisplayObjective(1, this.scoreboardObjective);
+        DISPLAY_FIELDS.set(displayObjective, "a", 1);
+        DISPLAY_FIELDS.set(displayObjective, "b", "board");
+        return new Object[]{objective, displayObjective};
+    }
 
-        this.mode = 2;
-        return this;
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    protected Object[] createLinePackets(int line, @Nonnull String text, boolean created) {
+        String[] parts = LINE_ENCODER.encode(line, text);
+        String color = parts[1];
+
+        PacketPlayOutScoreboardTeam.b b = new PacketPlayOutScoreboardTeam.b(this.scoreboardTeam);
+        TEAM_INFO_FIELDS.set(b, "a", CraftChatMessage.fromStringOrNull("team_" + line));
+        TEAM_INFO_FIELDS.set(b, "b", CraftChatMessage.fromStringOrNull(parts[0]));
+        TEAM_INFO_FIELDS.set(b, "c", CraftChatMessage.fromStringOrNull(" "));
+        TEAM_INFO_FIELDS.set(b, "d", "always");
+        TEAM_INFO_FIELDS.set(b, "e", "always");
+        TEAM_INFO_FIELDS.set(b, "f", EnumChatFormat.v);
+        TEAM_INFO_FIELDS.set(b, "g", 1);
+
+        PacketPlayOutScoreboardTeam team = PacketPlayOutScoreboardTeam.a(this.scoreboardTeam);
+        TEAM_FIELDS.set(team, "h", (created) ? 2 : 0);
+        TEAM_FIELDS.set(team, "i", "team_" + line);
+        TEAM_FIELDS.set(team, "j", (created) ? new ArrayList<>() : Collections.singletonList(color));
+        TEAM_FIELDS.set(team, "k", Optional.of(b));
+
+        if (created)
+            return new Object[]{team};
+
+        PacketPlayOutScoreboardScore score = new PacketPlayOutScoreboardScore(ScoreboardServer.Action.a, "board", color, 15 - line);
+        return new Object[]{team, score};
     }
 
     /**
@@ -107,8 +117,8 @@ public Scoreboard delete() {
                 IScoreboardCriteria.EnumScoreboardHealthDisplay.a);
 
         PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective(scoreboardObjective, 1);
-        ReflectionUtils.setField(objective, "d", "board");
-        ReflectionUtils.setField(objective, "g", 1);
+        OBJECTIVE_FIELDS.set(objective, "d", "board");
+        OBJECTIVE_FIELDS.set(objective, "g", 1);
 
         HCore.sendPacket(super.player, objective);
         ScoreboardHandler.getContent().remove(super.player.getUniqueId());
@@ -0,0 +1,216 @@
+package com.hakan.core.hologram.line.text;
+
+import com.hakan.core.HCore;
+import com.hakan.core.hologram.Hologram;
+import com.hakan.core.utils.Validate;
+import net.minecraft.network.protocol.game.PacketPlayOutEntityDestroy;
+import net.minecraft.network.protocol.game.PacketPlayOutEntityMetadata;
+import net.minecraft.network.protocol.game.PacketPlayOutEntityTeleport;
+import net.minecraft.network.protocol.game.PacketPlayOutSpawnEntity;
+import net.minecraft.world.entity.Display;
+import net.minecraft.world.entity.Interaction;
+import net.minecraft.world.level.World;
+import org.bukkit.Location;
+import org.bukkit.craftbukkit.v1_19_R3.CraftWorld;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * {@inheritDoc}
+ * <p>
+ * Display entity based text line for 1.19.4+.
+ * Text is rendered by a text display and clicks
+ * are received by an interaction entity, so line
+ * is spawned with 4 packets instead of 6 and
+ * client does not simulate armor stands.
+ */
+public final class TextDisplayLine_v1_19_R3 implements TextLine {
+
+    private static final float INTERACTION_WIDTH = 1.0f;
+    private static final float INTERACTION_HEIGHT = 0.25f;
+
+
+    private String text;
+    private Hologram hologram;
+    private final Display.TextDisplay display;
+    private final Interaction interaction;
+    private Object[] showPackets;
+    private Object[] hidePackets;
+
+    /**
+     * {@inheritDoc}
+     */
+    private TextDisplayLine_v1_19_R3(@Nonnull Hologram hologram, @Nonnull Location location) {
+        CraftWorld world = (CraftWorld) Validate.notNull(location.getWorld());
+        this.hologram = Validate.notNull(hologram, "hologram class cannot be null!");
+        this.display = (Display.TextDisplay) world.createEntity(location, TextDisplay.class);
+        this.interaction = (Interaction) world.createEntity(location, org.bukkit.entity.Interaction.class);
+
+        TextDisplay bukkitDisplay = (TextDisplay) this.display.getBukkitEntity();
+        bukkitDisplay.setBillboard(org.bukkit.entity.Display.Billboard.CENTER); //face to player like name tags
+        bukkitDisplay.setAlignment(TextDisplay.TextAlignment.CENTER); //center multi-line texts
+
+        org.bukkit.entity.Interaction bukkitInteraction = (org.bukkit.entity.Interaction) this.interaction.getBukkitEntity();
+        bukkitInteraction.setInteractionWidth(INTERACTION_WIDTH); //set click box width
+        bukkitInteraction.setInteractionHeight(INTERACTION_HEIGHT); //set click box height
+        bukkitInteraction.setResponsive(false); //disable swing animation on click
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setText(@Nonnull String text) {
+        this.text = Validate.notNull(text, "text cannot be null!");
+        ((TextDisplay) this.display.getBukkitEntity()).setText(this.text);
+        this.invalidate();
+        HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
+                new PacketPlayOutEntityMetadata(this.display.af(), this.display.aj().c()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Hologram getHologram() {
+        return this.hologram;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHologram(@Nonnull Hologram hologram) {
+        this.hologram = Validate.notNull(hologram, "hologram cannot be null!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getEntityID() {
+        return this.interaction.af();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Location getLocation() {
+        return this.display.getBukkitEntity().getLocation();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLocation(@Nonnull Location location) {
+        this.place(location);
+        HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
+                new PacketPlayOutEntityTeleport(this.display),
+                new PacketPlayOutEntityTeleport(this.interaction));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void place(@Nonnull Location location) {
+        Validate.notNull(location, "location cannot be null!");
+
+        World world = ((CraftWorld) Validate.notNull(location.getWorld())).getHandle();
+        if (!world.equals(this.display.H)) this.display.H = world;
+        if (!world.equals(this.interaction.H)) this.interaction.H = world;
+        this.display.a(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
+        this.interaction.a(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
+
+        this.invalidate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMarker(boolean marker) {
+        org.bukkit.entity.Interaction bukkitInteraction = (org.bukkit.entity.Interaction) this.interaction.getBukkitEntity();
+        bukkitInteraction.setInteractionWidth(marker ? 0 : INTERACTION_WIDTH); //remove click box if marker
+        bukkitInteraction.setInteractionHeight(marker ? 0 : INTERACTION_HEIGHT); //remove click box if marker
+
+        this.invalidate();
+        HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
+                new PacketPlayOutEntityMetadata(this.interaction.af(), this.interaction.aj().c()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void show(@Nonnull List<Player> players) {
+        HCore.sendPacket(Validate.notNull(players, "players cannot be null!"), this.getShowPackets());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void hide(@Nonnull List<Player> players) {
+        HCore.sendPacket(Validate.notNull(players, "players cannot be null!"), this.getHidePackets());
+    }
+
+    /**
+     * Gets spawn packets of line. Packets
+     * are cached until state of line changes,
+     * so all viewers share same instances.
+     *
+     * @return Spawn packets.
+     */
+    @Nonnull
+    private synchronized Object[] getShowPackets() {
+        if (this.showPackets == null) {
+            this.showPackets = new Object[]{
+                new PacketPlayOutSpawnEntity(this.display),
+                new PacketPlayOutEntityMetadata(this.display.af(), this.display.aj().c()),
+
+                new PacketPlayOutSpawnEntity(this.interaction),
+                new PacketPlayOutEntityMetadata(this.interaction.af(), this.interaction.aj().c())
+            };
+        }
+        return this.showPackets;
+    }
+
+    /**
+     * Gets destroy packets of line.
+     *
+     * @return Destroy packets.
+     */
+    @Nonnull
+    private synchronized Object[] getHidePackets() {
+        if (this.hidePackets == null) {
+            this.hidePackets = new Object[]{
+                new PacketPlayOutEntityDestroy(this.display.af(), this.interaction.af())
+            };
+        }
+        return this.hidePackets;
+    }
+
+    /**
+     * Invalidates cached spawn packets.
+     */
+    private synchronized void invalidate() {
+        this.showPackets = null;
+    }
+}
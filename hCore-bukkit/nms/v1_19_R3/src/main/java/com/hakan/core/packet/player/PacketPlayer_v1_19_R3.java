@@ -1,7 +1,7 @@
 package com.hakan.core.packet.player;
 
+import com.hakan.core.packet.PacketHandler;
 import com.hakan.core.packet.event.PacketEvent;
-import com.hakan.core.packet.utils.PacketUtils;
 import com.hakan.core.utils.ReflectionUtils;
 import com.hakan.core.utils.Validate;
 import io.netty.channel.ChannelDuplexHandler;
@@ -9,17 +9,23 @@
 import io.netty.channel.ChannelPromise;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.minecraft.network.protocol.game.PacketListenerPlayOut;
 import net.minecraft.server.network.PlayerConnection;
 import org.bukkit.craftbukkit.v1_19_R3.entity.CraftPlayer;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * {@inheritDoc}
  */
 public final class PacketPlayer_v1_19_R3 extends PacketPlayer {
 
+    private static final int BUNDLE_LIMIT = 4096;
+
     private final PlayerConnection connection;
 
     /**
@@ -43,6 +49,32 @@ public void send(@Nonnull Object... packets) {
             this.connection.a((Packet<?>) packet);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeBundle(@Nonnull List<Object> packets) {
+        Validate.notNull(packets, "packets cannot be null!");
+
+        if (packets.size() == 1) {
+            this.connection.a((Packet<?>) packets.get(0));
+            return;
+        }
+
+        List<Packet<PacketListenerPlayOut>> bundle = new ArrayList<>(Math.min(packets.size(), BUNDLE_LIMIT));
+        for (Object packet : packets) {
+            bundle.add((Packet<PacketListenerPlayOut>) packet);
+            if (bundle.size() == BUNDLE_LIMIT) {
+                this.connection.a(new ClientboundBundlePacket(bundle));
+                bundle = new ArrayList<>();
+            }
+        }
+
+        if (!bundle.isEmpty())
+            this.connection.a(new ClientboundBundlePacket(bundle));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,19 +87,13 @@ public void register() {
             super.pipeline = networkManager.m.pipeline().addBefore("packet_handler", CHANNEL + super.player.getUniqueId(), new ChannelDuplexHandler() {
                 @Override
                 public void channelRead(ChannelHandlerContext channelHandlerContext, Object msg) throws Exception {
-                    PacketEvent packetEvent = new PacketEvent(player, msg, PacketEvent.Type.READ);
-                    PacketUtils.callEvent(packetEvent);
-
-                    if (packetEvent.isCancelled()) return;
+                    if (!PacketHandler.handle(player, msg, PacketEvent.Type.READ)) return;
                     super.channelRead(channelHandlerContext, msg);
                 }
 
                 @Override
                 public void write(ChannelHandlerContext channelHandlerContext, Object o, ChannelPromise channelPromise) throws Exception {
-                    PacketEvent packetEvent = new PacketEvent(player, o, PacketEvent.Type.WRITE);
-                    PacketUtils.callEvent(packetEvent);
-
-                    if (packetEvent.isCancelled()) return;
+                    if (!PacketHandler.handle(player, o, PacketEvent.Type.WRITE)) return;
                     super.write(channelHandlerContext, o, channelPromise);
                 }
             });
@@ -2,12 +2,12 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.npc.Npc;
+import com.hakan.core.npc.NpcHandler;
 import com.hakan.core.skin.Skin;
 import com.hakan.core.utils.Validate;
 import com.mojang.authlib.GameProfile;
 import com.mojang.authlib.properties.Property;
 import com.mojang.datafixers.util.Pair;
-import net.minecraft.network.protocol.game.ClientboundPlayerInfoUpdatePacket;
 import net.minecraft.network.protocol.game.PacketPlayOutAnimation;
 import net.minecraft.network.protocol.game.PacketPlayOutEntity;
 import net.minecraft.network.protocol.game.PacketPlayOutEntityDestroy;
@@ -33,12 +33,12 @@
 import org.bukkit.Location;
 import org.bukkit.craftbukkit.v1_20_R3.CraftServer;
 import org.bukkit.craftbukkit.v1_20_R3.CraftWorld;
-import org.bukkit.craftbukkit.v1_20_R3.entity.CraftPlayer;
 import org.bukkit.craftbukkit.v1_20_R3.inventory.CraftItemStack;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -99,6 +99,15 @@ public int getID() {
         return this.nmsPlayer.aj();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object getHandle() {
+        return this.nmsPlayer;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -178,27 +187,23 @@ public void show(@Nonnull List<Player> players) {
         dataWatcher.b(new DataWatcherObject<>(10, DataWatcherRegistry.b), 0);
         dataWatcher.b(new DataWatcherObject<>(17, DataWatcherRegistry.a), (byte) 127);
 
-        players.forEach(player -> {
-            this.scoreboard.g().add(player.getName());
-
-            this.nmsPlayer.c = ((CraftPlayer) players.get(0)).getHandle().c;
-            HCore.sendPacket(player,
-                    new ClientboundPlayerInfoUpdatePacket(ClientboundPlayerInfoUpdatePacket.a.a, this.nmsPlayer),
-                    new PacketPlayOutEntityMetadata(this.getID(), dataWatcher.c()),
-                    new PacketPlayOutSpawnEntity(this.nmsPlayer),
-                    PacketPlayOutScoreboardTeam.a(this.scoreboard, true));
-            this.nmsPlayer.c = null;
-        });
-        HCore.asyncScheduler().after(5).run(() -> players.forEach(player -> {
-            this.nmsPlayer.c = ((CraftPlayer) players.get(0)).getHandle().c;
-            HCore.sendPacket(player, new ClientboundPlayerInfoUpdatePacket(
-                    ClientboundPlayerInfoUpdatePacket.a.e, this.nmsPlayer));
-            this.nmsPlayer.c = null;
-        }));
-        HCore.asyncScheduler().after(2)
-                .run(() -> this.updateLocation(players));
-
-        this.updateEquipments(players);
+        players.forEach(player -> this.scoreboard.g().add(player.getName()));
+        NpcHandler.getInfoQueue().show(players, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void spawn(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+
+        DataWatcher dataWatcher = this.nmsPlayer.an();
+        HCore.sendPacket(player,
+                new PacketPlayOutEntityMetadata(this.getID(), dataWatcher.c()),
+                new PacketPlayOutSpawnEntity(this.nmsPlayer),
+                PacketPlayOutScoreboardTeam.a(this.scoreboard, true));
+        this.updateEquipments(Collections.singletonList(player));
     }
 
     /**
@@ -208,6 +213,8 @@ public void show(@Nonnull List<Player> players) {
     public void hide(@Nonnull List<Player> players) {
         Validate.notNull(players, "players cannot be null!");
 
+        NpcHandler.getInfoQueue().cancel(players, this);
+
         players.forEach(player -> this.scoreboard.g().remove(player.getName()));
         HCore.sendPacket(players, new PacketPlayOutEntityDestroy(this.getID()),
                 PacketPlayOutScoreboardTeam.a(this.scoreboard, true));